@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Benchmarks for building links to controller methods via {@code linkTo(methodOn(…))}.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Thread)
+public class ControllerLinkBuilderBenchmark extends AbstractBenchmark {
+
+	ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+
+	@Setup
+	public void setUp() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServerName("localhost");
+		request.setServerPort(8080);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Link linkToMethodOn() {
+		return linkTo(methodOn(CustomerController.class).showAddresses(4711L, 2)).withRel("addresses");
+	}
+
+	@Benchmark
+	public Link linkToSharedMethodOn() {
+		return linkTo(sharedMethodOn(CustomerController.class).showAddresses(4711L, 2)).withRel("addresses");
+	}
+
+	@Benchmark
+	public Link linkToMethodOnViaFactory() {
+		return factory.linkTo(methodOn(CustomerController.class).showAddresses(4711L, 2)).withRel("addresses");
+	}
+
+	@Benchmark
+	public Link linkToController() {
+		return linkTo(CustomerController.class).slash(4711L).withSelfRel();
+	}
+
+	@RequestMapping("/customers")
+	static class CustomerController {
+
+		@RequestMapping("/{id}/addresses")
+		HttpEntity<Void> showAddresses(@PathVariable Long id, @RequestParam Integer page) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
+import org.springframework.hateoas.hal.StreamingHalLinkDiscoverer;
+
+/**
+ * Benchmarks for {@link HalLinkDiscoverer} and {@link StreamingHalLinkDiscoverer} looking up links in a HAL document
+ * with a sizable {@code _embedded} section.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Benchmark)
+public class HalLinkDiscovererBenchmark extends AbstractBenchmark {
+
+	HalLinkDiscoverer discoverer = new HalLinkDiscoverer();
+	HalLinkDiscoverer streamingDiscoverer = new StreamingHalLinkDiscoverer();
+	List<String> rels = Arrays.asList("self", "next", "search");
+	String document;
+	byte[] bytes;
+
+	@Setup
+	public void setUp() {
+
+		StringBuilder builder = new StringBuilder("{\"_links\":{");
+		builder.append("\"self\":{\"href\":\"http://localhost:8080/people\"},");
+		builder.append("\"next\":{\"href\":\"http://localhost:8080/people?page=1\"},");
+		builder.append("\"search\":{\"href\":\"http://localhost:8080/people/search{?name}\",\"templated\":true}");
+		builder.append("},\"_embedded\":{\"people\":[");
+
+		for (int i = 0; i < 100; i++) {
+			builder.append(i == 0 ? "" : ",").append("{\"firstname\":\"Dave\",\"lastname\":\"Matthews\",")
+					.append("\"_links\":{\"self\":{\"href\":\"http://localhost:8080/people/").append(i).append("\"}}}");
+		}
+
+		this.document = builder.append("]}}").toString();
+		this.bytes = document.getBytes(Charset.forName("UTF-8"));
+	}
+
+	@Benchmark
+	public Link findLinkWithRel() {
+		return discoverer.findLinkWithRel("next", document);
+	}
+
+	@Benchmark
+	public List<Link> findLinksWithRel() {
+		return discoverer.findLinksWithRel("search", document);
+	}
+
+	@Benchmark
+	public Links findLinksWithRels() {
+		return discoverer.findLinksWithRels(rels, document);
+	}
+
+	@Benchmark
+	public Link streamingFindLinkWithRel() {
+		return streamingDiscoverer.findLinkWithRel("next", document);
+	}
+
+	@Benchmark
+	public List<Link> streamingFindLinksWithRel() {
+		return streamingDiscoverer.findLinksWithRel("search", document);
+	}
+
+	@Benchmark
+	public List<Link> streamingFindLinksWithRelFromStream() {
+		return streamingDiscoverer.findLinksWithRel("search", new ByteArrayInputStream(bytes));
+	}
+
+	@Benchmark
+	public Links streamingFindLinksWithRels() {
+		return streamingDiscoverer.findLinksWithRels(rels, document);
+	}
+}
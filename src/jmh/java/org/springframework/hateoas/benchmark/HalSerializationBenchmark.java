@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.Relation;
+import org.springframework.hateoas.hal.DefaultCurieProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for rendering {@link Resources} and {@link PagedResources} of different sizes as HAL, with and without a
+ * {@link org.springframework.hateoas.hal.CurieProvider} configured. {@link StreamingResources} are rendered from a
+ * source creating the elements on the fly.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Benchmark)
+public class HalSerializationBenchmark extends AbstractBenchmark {
+
+	@Param({ "10", "1000", "100000" }) int size;
+	@Param({ "false", "true" }) boolean curies;
+
+	ObjectMapper mapper;
+	Resources<Resource<Person>> resources;
+	PagedResources<Resource<Person>> pagedResources;
+
+	@Setup
+	public void setUp() {
+
+		this.mapper = new ObjectMapper();
+		this.mapper.registerModule(new Jackson2HalModule());
+		this.mapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationRelProvider(),
+				curies ? new DefaultCurieProvider("acme", new UriTemplate("http://localhost:8080/rels/{rel}")) : null, null));
+
+		List<Resource<Person>> content = new ArrayList<Resource<Person>>(size);
+
+		for (int i = 0; i < size; i++) {
+			content.add(createPerson(i));
+		}
+
+		Link self = new Link("http://localhost:8080/people{?page,size}");
+
+		this.resources = new Resources<Resource<Person>>(content, self);
+		this.pagedResources = new PagedResources<Resource<Person>>(content, new PageMetadata(size, 0, size), self,
+				new Link("http://localhost:8080/people?page=1", Link.REL_NEXT));
+	}
+
+	@Benchmark
+	public void serializeResources() throws IOException {
+		mapper.writeValue(NullOutputStream.INSTANCE, resources);
+	}
+
+	@Benchmark
+	public void serializePagedResources() throws IOException {
+		mapper.writeValue(NullOutputStream.INSTANCE, pagedResources);
+	}
+
+	@Benchmark
+	public void serializeStreamingResources() throws IOException {
+
+		Iterable<Resource<Person>> source = new Iterable<Resource<Person>>() {
+
+			@Override
+			public Iterator<Resource<Person>> iterator() {
+
+				return new Iterator<Resource<Person>>() {
+
+					int i = 0;
+
+					@Override
+					public boolean hasNext() {
+						return i < size;
+					}
+
+					@Override
+					public Resource<Person> next() {
+						return createPerson(i++);
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+
+		mapper.writeValue(NullOutputStream.INSTANCE,
+				new StreamingResources<Resource<Person>>(source, resources.getLinks()));
+	}
+
+	private static Resource<Person> createPerson(int i) {
+
+		return new Resource<Person>(new Person("Dave", "Matthews"), new Link("http://localhost:8080/people/" + i),
+				new Link("http://localhost:8080/people/" + i + "/address", "address"));
+	}
+
+	@Relation(collectionRelation = "people")
+	public static class Person {
+
+		private final String firstname, lastname;
+
+		public Person(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+	}
+
+	/**
+	 * {@link OutputStream} discarding everything written to it, so that only the serialization is measured.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class NullOutputStream extends OutputStream {
+
+		static final NullOutputStream INSTANCE = new NullOutputStream();
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(int)
+		 */
+		@Override
+		public void write(int b) {}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) {}
+	}
+}
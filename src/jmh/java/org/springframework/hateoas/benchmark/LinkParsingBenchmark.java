@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+
+/**
+ * Benchmarks for parsing {@link Link}s and {@link Links} from their RFC 5988 header representation, compared to the
+ * regular expression based parsing used before.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Benchmark)
+public class LinkParsingBenchmark extends AbstractBenchmark {
+
+	static final String LINK = "<http://localhost:8080/customers/4711>;rel=\"self\";title=\"Customer\";type=\"application/hal+json\"";
+	static final String LINKS;
+
+	static {
+
+		StringBuilder builder = new StringBuilder(LINK);
+
+		for (int i = 0; i < 20; i++) {
+			builder.append(",<http://localhost:8080/customers/4711/orders?page=").append(i).append(">;rel=\"page")
+					.append(i).append("\";hreflang=\"en\"");
+		}
+
+		LINKS = builder.toString();
+	}
+
+	@Benchmark
+	public Link linkValueOf() {
+		return Link.valueOf(LINK);
+	}
+
+	@Benchmark
+	public Links linksValueOf() {
+		return Links.valueOf(LINKS);
+	}
+
+	@Benchmark
+	public Link regexLinkValueOf() {
+		return RegexLinkParser.parseLink(LINK);
+	}
+
+	@Benchmark
+	public Links regexLinksValueOf() {
+		return RegexLinkParser.parseLinks(LINKS);
+	}
+
+	/**
+	 * The regular expression based parsing previously used by {@link Link#valueOf(String)} and
+	 * {@link Links#valueOf(String)} as baseline.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class RegexLinkParser {
+
+		private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
+		private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\w+=\"[^\"]*\")+)");
+
+		static Links parseLinks(String source) {
+
+			Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
+			List<Link> links = new ArrayList<Link>();
+
+			while (matcher.find()) {
+				links.add(parseLink(matcher.group()));
+			}
+
+			return new Links(links);
+		}
+
+		static Link parseLink(String element) {
+
+			Matcher matcher = Pattern.compile("<(.*)>;(.*)").matcher(element);
+
+			if (!matcher.find()) {
+				throw new IllegalArgumentException(element);
+			}
+
+			Map<String, String> attributes = new HashMap<String, String>();
+			Matcher attributeMatcher = Pattern
+					.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}\\.\\-\\s]*|" + URI_PATTERN + ")\"")
+					.matcher(matcher.group(2));
+
+			while (attributeMatcher.find()) {
+				attributes.put(attributeMatcher.group(1), attributeMatcher.group(2));
+			}
+
+			Link link = new Link(matcher.group(1), attributes.get("rel"));
+
+			if (attributes.containsKey("hreflang")) {
+				link = link.withHreflang(attributes.get("hreflang"));
+			}
+
+			if (attributes.containsKey("title")) {
+				link = link.withTitle(attributes.get("title"));
+			}
+
+			if (attributes.containsKey("type")) {
+				link = link.withType(attributes.get("type"));
+			}
+
+			return link;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.util.StringUtils;
+
+/**
+ * Benchmarks for rendering {@link Link}s and {@link Links} into their RFC 5988 header representation, compared to the
+ * {@link String#format(String, Object...)} and concatenation based rendering used before.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Benchmark)
+public class LinkRenderingBenchmark extends AbstractBenchmark {
+
+	Link link = Link.valueOf(LinkParsingBenchmark.LINK);
+	Links links = Links.valueOf(LinkParsingBenchmark.LINKS);
+
+	@Benchmark
+	public String linkToString() {
+		return link.toString();
+	}
+
+	@Benchmark
+	public String linksToString() {
+		return links.toString();
+	}
+
+	@Benchmark
+	public String formatLinkToString() {
+		return format(link);
+	}
+
+	@Benchmark
+	public String formatLinksToString() {
+
+		List<String> result = new ArrayList<String>();
+
+		for (Link link : links) {
+			result.add(format(link));
+		}
+
+		return StringUtils.collectionToCommaDelimitedString(result);
+	}
+
+	/**
+	 * The rendering previously used by {@link Link#toString()} as baseline.
+	 */
+	private static String format(Link link) {
+
+		String linkString = String.format("<%s>;rel=\"%s\"", link.getHref(), link.getRel());
+
+		if (link.getHreflang() != null) {
+			linkString += ";hreflang=\"" + link.getHreflang() + "\"";
+		}
+
+		if (link.getMedia() != null) {
+			linkString += ";media=\"" + link.getMedia() + "\"";
+		}
+
+		if (link.getTitle() != null) {
+			linkString += ";title=\"" + link.getTitle() + "\"";
+		}
+
+		if (link.getType() != null) {
+			linkString += ";type=\"" + link.getType() + "\"";
+		}
+
+		if (link.getDeprecation() != null) {
+			linkString += ";deprecation=\"" + link.getDeprecation() + "\"";
+		}
+
+		return linkString;
+	}
+}
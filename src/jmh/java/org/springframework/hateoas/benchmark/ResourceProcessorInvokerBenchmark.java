@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+
+/**
+ * Benchmarks for {@link ResourceProcessorInvoker} applying {@link ResourceProcessor}s to a collection resource and its
+ * elements.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Benchmark)
+public class ResourceProcessorInvokerBenchmark extends AbstractBenchmark {
+
+	ResourceProcessorInvoker invoker;
+	List<Resource<String>> content;
+
+	@Setup
+	public void setUp() {
+
+		List<ResourceProcessor<?>> processors = new ArrayList<ResourceProcessor<?>>();
+		processors.add(new ElementProcessor());
+		processors.add(new CollectionProcessor());
+		processors.add(new UnrelatedProcessor());
+
+		this.invoker = new ResourceProcessorInvoker(processors);
+		this.content = new ArrayList<Resource<String>>();
+
+		for (int i = 0; i < 100; i++) {
+			content.add(new Resource<String>("Element " + i));
+		}
+	}
+
+	@Benchmark
+	public Resources<Resource<String>> invokeProcessorsFor() {
+		return invoker.invokeProcessorsFor(new Resources<Resource<String>>(content));
+	}
+
+	static class ElementProcessor implements ResourceProcessor<Resource<String>> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.ResourceProcessor#process(org.springframework.hateoas.ResourceSupport)
+		 */
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+			return resource;
+		}
+	}
+
+	static class CollectionProcessor implements ResourceProcessor<Resources<Resource<String>>> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.ResourceProcessor#process(org.springframework.hateoas.ResourceSupport)
+		 */
+		@Override
+		public Resources<Resource<String>> process(Resources<Resource<String>> resource) {
+			return resource;
+		}
+	}
+
+	static class UnrelatedProcessor implements ResourceProcessor<Resource<Link>> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.ResourceProcessor#process(org.springframework.hateoas.ResourceSupport)
+		 */
+		@Override
+		public Resource<Link> process(Resource<Link> resource) {
+			return resource;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
+
+/**
+ * Benchmarks for parsing and expanding {@link UriTemplate}s.
+ *
+ * @author Oliver Gierke
+ */
+@State(Scope.Benchmark)
+public class UriTemplateBenchmark extends AbstractBenchmark {
+
+	static final String TEMPLATE = "http://localhost:8080/customers/{id}/orders{?page,size,sort}";
+
+	UriTemplate template = new UriTemplate(TEMPLATE);
+	Link link = new Link(TEMPLATE, "orders");
+	Map<String, Object> parameters = new HashMap<String, Object>();
+
+	{
+		parameters.put("id", 4711L);
+		parameters.put("page", 2);
+		parameters.put("size", 20);
+	}
+
+	@Benchmark
+	public UriTemplate parse() {
+		return new UriTemplate(TEMPLATE);
+	}
+
+	@Benchmark
+	public UriTemplate lookup() {
+		return UriTemplate.of(TEMPLATE);
+	}
+
+	@Benchmark
+	public URI expandPositional() {
+		return template.expand(4711L, 2, 20);
+	}
+
+	@Benchmark
+	public URI expandMap() {
+		return template.expand(parameters);
+	}
+
+	@Benchmark
+	public String expandToString() {
+		return template.expandToString(parameters);
+	}
+
+	@Benchmark
+	public Link expandLink() {
+		return link.expand(parameters);
+	}
+}
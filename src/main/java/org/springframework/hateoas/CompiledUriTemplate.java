@@ -0,0 +1,781 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The compiled form of a URI template string. The template is parsed in a single pass into an immutable list of
+ * literal and expression parts which can then be expanded into a {@link StringBuilder} without any intermediate
+ * {@link java.net.URI} or {@link org.springframework.web.util.UriComponents} instances. Compiled templates are
+ * immutable and thread-safe. The ones of strings containing expressions are cached through the shared
+ * {@link UriTemplateCache}, plain URIs are compiled on every lookup as they're cheap to parse and mostly unique.
+ * <p>
+ * All expression types of RFC 6570 up to level 4 are supported, including prefix ({@code {var:3}}) and explode
+ * ({@code {list*}}) modifiers. Values can be scalars, {@link java.util.Collection}s, arrays or {@link Map}s. Request
+ * parameter expressions ({@code {?…}} and {@code {&…}}) continue an already existing query and path segment
+ * expressions don't duplicate a trailing slash, as {@link UriTemplate} always did.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see http://tools.ietf.org/html/rfc6570
+ */
+final class CompiledUriTemplate {
+
+	private static final int IN_QUERY = 1;
+	private static final int IN_FRAGMENT = 2;
+
+	private final String template;
+	private final List<Part> parts;
+	private final TemplateVariables variables;
+	private final int baseUriEndIndex;
+
+	private CompiledUriTemplate(String template) {
+
+		List<Part> parts = new ArrayList<Part>();
+		List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
+
+		int length = template.length();
+		int baseUriEndIndex = length;
+		int literalStart = 0;
+		int index = 0;
+
+		while (index < length) {
+
+			if (template.charAt(index) != '{') {
+				index++;
+				continue;
+			}
+
+			int end = template.indexOf('}', index + 1);
+
+			if (end < 0) {
+				break;
+			}
+
+			Expression expression = Expression.parse(template, index + 1, end, variables.size());
+
+			// Not a valid expression, so treat it as literal
+			if (expression == null) {
+				index++;
+				continue;
+			}
+
+			if (literalStart < index) {
+				parts.add(new Literal(template.substring(literalStart, index)));
+				baseUriEndIndex = length;
+			}
+
+			if (!expression.type.isOptional()) {
+				baseUriEndIndex = length;
+			} else if (baseUriEndIndex == length) {
+				baseUriEndIndex = index;
+			}
+
+			parts.add(expression);
+			variables.addAll(expression.variables);
+
+			index = end + 1;
+			literalStart = index;
+		}
+
+		if (literalStart < length) {
+			parts.add(new Literal(template.substring(literalStart)));
+			baseUriEndIndex = length;
+		}
+
+		this.template = template;
+		this.parts = Collections.unmodifiableList(parts);
+		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
+		this.baseUriEndIndex = baseUriEndIndex;
+	}
+
+	/**
+	 * Returns the {@link CompiledUriTemplate} for the given template string, looking it up from the shared
+	 * {@link UriTemplateCache} if the string contains expressions.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static CompiledUriTemplate of(String template) {
+
+		Assert.notNull(template, "Template must not be null!");
+
+		return template.indexOf('{') < 0 ? compile(template)
+				: UriTemplateCache.getSharedInstance().get(template).getCompiled();
+	}
+
+	/**
+	 * Compiles the given template string without consulting any cache.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompiledUriTemplate compile(String template) {
+
+		Assert.notNull(template, "Template must not be null!");
+
+		return new CompiledUriTemplate(template);
+	}
+
+	/**
+	 * Returns the {@link TemplateVariables} in the order of their declaration.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public TemplateVariables getVariables() {
+		return variables;
+	}
+
+	/**
+	 * Returns the part of the template before the trailing optional expressions.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String getBaseUri() {
+		return template.substring(0, baseUriEndIndex);
+	}
+
+	/**
+	 * Expands the template using the given parameters applied in the order of the declared variables.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	public String expand(Object... parameters) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		return expand(new PositionalValues(parameters));
+	}
+
+	/**
+	 * Expands the template using the given parameters looked up by variable name.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	public String expand(Map<String, ? extends Object> parameters) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		return expand(new NamedValues(parameters));
+	}
+
+	private String expand(Values values) {
+
+		if (variables.asList().isEmpty()) {
+			return template;
+		}
+
+		StringBuilder builder = new StringBuilder(template.length() + 16 * variables.asList().size());
+		expand(builder, values);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Expands the template into the given {@link StringBuilder}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 */
+	void expand(StringBuilder builder, Values values) {
+
+		int state = 0;
+
+		for (Part part : parts) {
+			state = part.expand(builder, state, values);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return template;
+	}
+
+	/**
+	 * Lookup of the values to expand the variables with.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static abstract class Values {
+
+		/**
+		 * Returns the value for the given {@link TemplateVariable}.
+		 *
+		 * @param variable the variable to look up the value for, will never be {@literal null}.
+		 * @param index the index of the variable within the template.
+		 * @return can be {@literal null}.
+		 */
+		abstract Object get(TemplateVariable variable, int index);
+	}
+
+	private static class PositionalValues extends Values {
+
+		private final Object[] parameters;
+
+		PositionalValues(Object[] parameters) {
+			this.parameters = parameters;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Values#get(org.springframework.hateoas.TemplateVariable, int)
+		 */
+		@Override
+		Object get(TemplateVariable variable, int index) {
+			return index < parameters.length ? parameters[index] : null;
+		}
+	}
+
+	private static class NamedValues extends Values {
+
+		private final Map<String, ? extends Object> parameters;
+
+		NamedValues(Map<String, ? extends Object> parameters) {
+			this.parameters = parameters;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Values#get(org.springframework.hateoas.TemplateVariable, int)
+		 */
+		@Override
+		Object get(TemplateVariable variable, int index) {
+			return parameters.get(variable.getName());
+		}
+	}
+
+	/**
+	 * A part of a compiled template.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private interface Part {
+
+		/**
+		 * Expands the part into the given {@link StringBuilder}.
+		 *
+		 * @param builder will never be {@literal null}.
+		 * @param state the current state of the URI written so far.
+		 * @param values will never be {@literal null}.
+		 * @return the state of the URI after the part was written.
+		 */
+		int expand(StringBuilder builder, int state, Values values);
+	}
+
+	/**
+	 * A literal part of the template. Characters not allowed in a URI are encoded once on compilation.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Literal implements Part {
+
+		private final String value;
+		private final int state;
+
+		Literal(String source) {
+
+			StringBuilder builder = new StringBuilder(source.length());
+			UriEncoder.encode(source, UriEncoder.LITERAL, true, builder);
+
+			int fragmentIndex = source.indexOf('#');
+			int queryIndex = source.indexOf('?');
+
+			this.value = builder.toString();
+			this.state = (fragmentIndex < 0 ? 0 : IN_FRAGMENT)
+					| (queryIndex < 0 || fragmentIndex >= 0 && fragmentIndex < queryIndex ? 0 : IN_QUERY);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(java.lang.StringBuilder, int, org.springframework.hateoas.CompiledUriTemplate.Values)
+		 */
+		@Override
+		public int expand(StringBuilder builder, int state, Values values) {
+
+			builder.append(value);
+			return state | this.state;
+		}
+	}
+
+	/**
+	 * An expression, i.e. a list of variables of the same {@link VariableType}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Expression implements Part {
+
+		private final VariableType type;
+		private final Operator operator;
+		private final List<TemplateVariable> variables;
+		private final int offset;
+
+		private Expression(VariableType type, List<TemplateVariable> variables, int offset) {
+
+			this.type = type;
+			this.operator = Operator.of(type);
+			this.variables = variables;
+			this.offset = offset;
+		}
+
+		/**
+		 * Parses the expression between the given indexes of the given template.
+		 *
+		 * @param template the source template.
+		 * @param start the index of the first character after the opening brace.
+		 * @param end the index of the closing brace.
+		 * @param offset the number of variables declared before the expression.
+		 * @return the parsed {@link Expression} or {@literal null} if the source is not a valid expression.
+		 */
+		static Expression parse(String template, int start, int end, int offset) {
+
+			if (start == end) {
+				return null;
+			}
+
+			VariableType type = VariableType.PATH_VARIABLE;
+
+			switch (template.charAt(start)) {
+				case '+':
+				case '.':
+				case ';':
+				case '?':
+				case '&':
+				case '/':
+				case '#':
+					type = VariableType.from(template.substring(start, start + 1));
+					start++;
+					break;
+				default:
+			}
+
+			List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
+			int index = start;
+
+			while (index <= end) {
+
+				int nameStart = index;
+
+				while (index < end && isNameCharacter(template.charAt(index))) {
+					index++;
+				}
+
+				String name = template.substring(nameStart, index);
+
+				if (name.length() == 0 || name.startsWith(".") || name.endsWith(".") || name.contains("..")) {
+					return null;
+				}
+
+				int prefixLength = 0;
+				boolean exploded = false;
+
+				if (index < end && template.charAt(index) == '*') {
+
+					exploded = true;
+					index++;
+
+				} else if (index < end && template.charAt(index) == ':') {
+
+					int digitsStart = ++index;
+
+					while (index < end && index - digitsStart < 4 && Character.isDigit(template.charAt(index))) {
+						prefixLength = prefixLength * 10 + template.charAt(index) - '0';
+						index++;
+					}
+
+					if (prefixLength == 0 || template.charAt(digitsStart) == '0') {
+						return null;
+					}
+				}
+
+				if (index < end && template.charAt(index) != ',') {
+					return null;
+				}
+
+				variables.add(new TemplateVariable(name, type, "", prefixLength, exploded));
+				index++;
+			}
+
+			return new Expression(type, Collections.unmodifiableList(variables), offset);
+		}
+
+		private static boolean isNameCharacter(char c) {
+			return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.';
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(java.lang.StringBuilder, int, org.springframework.hateoas.CompiledUriTemplate.Values)
+		 */
+		@Override
+		public int expand(StringBuilder builder, int state, Values values) {
+
+			boolean[] allowed = operator.allowed != null ? operator.allowed
+					: (state & IN_FRAGMENT) != 0 ? UriEncoder.FRAGMENT
+							: (state & IN_QUERY) != 0 ? UriEncoder.QUERY_PARAM : UriEncoder.PATH;
+
+			int start = builder.length();
+			boolean first = true;
+
+			for (int i = 0; i < variables.size(); i++) {
+
+				TemplateVariable variable = variables.get(i);
+				Object value = values.get(variable, offset + i);
+
+				if (value == null) {
+
+					if (variable.isRequired()) {
+						throw new IllegalArgumentException(
+								String.format("Template variable %s is required but no value was given!", variable.getName()));
+					}
+
+					continue;
+				}
+
+				if (value.getClass().isArray()) {
+					value = Arrays.asList(ObjectUtils.toObjectArray(value));
+				}
+
+				if (value instanceof Collection ? ((Collection<?>) value).isEmpty()
+						: value instanceof Map && ((Map<?, ?>) value).isEmpty()) {
+					continue;
+				}
+
+				if (first) {
+					appendFirst(builder, state);
+				} else {
+					builder.append(operator.separator);
+				}
+
+				if (value instanceof Collection) {
+					appendList(builder, variable, (Collection<?>) value, allowed);
+				} else if (value instanceof Map) {
+					appendMap(builder, variable, (Map<?, ?>) value, allowed);
+				} else {
+					appendScalar(builder, variable, value.toString(), allowed);
+				}
+
+				first = false;
+			}
+
+			return first ? state : getState(builder, start, state);
+		}
+
+		private void appendFirst(StringBuilder builder, int state) {
+
+			switch (operator) {
+
+				case QUERY:
+					builder.append((state & IN_QUERY) == 0 ? '?' : '&');
+					break;
+
+				case SEGMENT:
+
+					if (builder.length() == 0 || builder.charAt(builder.length() - 1) != '/') {
+						builder.append('/');
+					}
+
+					break;
+
+				default:
+
+					if (operator.first != 0) {
+						builder.append(operator.first);
+					}
+			}
+		}
+
+		private void appendScalar(StringBuilder builder, TemplateVariable variable, String value, boolean[] allowed) {
+
+			int prefixLength = variable.getPrefixLength();
+
+			if (prefixLength > 0 && value.codePointCount(0, value.length()) > prefixLength) {
+				value = value.substring(0, value.offsetByCodePoints(0, prefixLength));
+			}
+
+			if (operator.named) {
+
+				builder.append(variable.getName());
+
+				if (value.length() == 0) {
+					builder.append(operator.ifEmpty);
+					return;
+				}
+
+				builder.append('=');
+			}
+
+			UriEncoder.encode(value, allowed, operator.keepEncoded, builder);
+		}
+
+		private void appendList(StringBuilder builder, TemplateVariable variable, Collection<?> values,
+				boolean[] allowed) {
+
+			boolean exploded = variable.isExploded();
+			boolean first = true;
+
+			if (!exploded && operator.named) {
+				builder.append(variable.getName()).append('=');
+			}
+
+			for (Object value : values) {
+
+				if (value == null) {
+					continue;
+				}
+
+				if (!first) {
+					builder.append(exploded ? operator.separator : ',');
+				}
+
+				if (exploded) {
+					appendScalar(builder, variable, value.toString(), allowed);
+				} else {
+					UriEncoder.encode(value.toString(), allowed, operator.keepEncoded, builder);
+				}
+
+				first = false;
+			}
+		}
+
+		private void appendMap(StringBuilder builder, TemplateVariable variable, Map<?, ?> values, boolean[] allowed) {
+
+			boolean exploded = variable.isExploded();
+			boolean first = true;
+
+			if (!exploded && operator.named) {
+				builder.append(variable.getName()).append('=');
+			}
+
+			for (Entry<?, ?> entry : values.entrySet()) {
+
+				if (entry.getValue() == null) {
+					continue;
+				}
+
+				if (!first) {
+					builder.append(exploded ? operator.separator : ',');
+				}
+
+				String value = entry.getValue().toString();
+				UriEncoder.encode(String.valueOf(entry.getKey()), allowed, operator.keepEncoded, builder);
+
+				if (!exploded) {
+					builder.append(',');
+				} else if (operator.named && value.length() == 0) {
+					builder.append(operator.ifEmpty);
+				} else {
+					builder.append('=');
+				}
+
+				UriEncoder.encode(value, allowed, operator.keepEncoded, builder);
+				first = false;
+			}
+		}
+
+		private int getState(StringBuilder builder, int start, int state) {
+
+			switch (operator) {
+
+				case QUERY:
+					return state | IN_QUERY;
+
+				case FRAGMENT:
+					return state | IN_FRAGMENT;
+
+				case RESERVED:
+
+					for (int i = start; i < builder.length(); i++) {
+
+						char c = builder.charAt(i);
+
+						if (c == '#') {
+							return state | IN_FRAGMENT;
+						}
+
+						if (c == '?') {
+							state |= IN_QUERY;
+						}
+					}
+
+					return state;
+
+				default:
+					return state;
+			}
+		}
+	}
+
+	/**
+	 * The expansion rules for the individual {@link VariableType}s as defined in appendix A of RFC 6570.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private enum Operator {
+
+		SIMPLE((char) 0, ',', false, "", null, false), //
+		RESERVED((char) 0, ',', false, "", UriEncoder.LITERAL, true), //
+		LABEL('.', '.', false, "", UriEncoder.UNRESERVED_ONLY, false), //
+		PATH_STYLE(';', ';', true, "", UriEncoder.UNRESERVED_ONLY, false), //
+		QUERY('?', '&', true, "=", UriEncoder.QUERY_PARAM, false), //
+		SEGMENT('/', '/', false, "", UriEncoder.PATH, false), //
+		FRAGMENT('#', ',', false, "", UriEncoder.FRAGMENT, true);
+
+		private final char first;
+		private final char separator;
+		private final boolean named;
+		private final String ifEmpty;
+		private final boolean[] allowed;
+		private final boolean keepEncoded;
+
+		private Operator(char first, char separator, boolean named, String ifEmpty, boolean[] allowed,
+				boolean keepEncoded) {
+
+			this.first = first;
+			this.separator = separator;
+			this.named = named;
+			this.ifEmpty = ifEmpty;
+			this.allowed = allowed;
+			this.keepEncoded = keepEncoded;
+		}
+
+		static Operator of(VariableType type) {
+
+			switch (type) {
+				case RESERVED:
+					return RESERVED;
+				case LABEL:
+					return LABEL;
+				case PATH_STYLE:
+					return PATH_STYLE;
+				case REQUEST_PARAM:
+				case REQUEST_PARAM_CONTINUED:
+					return QUERY;
+				case SEGMENT:
+					return SEGMENT;
+				case FRAGMENT:
+					return FRAGMENT;
+				case PATH_VARIABLE:
+				default:
+					return SIMPLE;
+			}
+		}
+	}
+
+	/**
+	 * Percent-encoding of characters not allowed in a particular URI component.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class UriEncoder {
+
+		private static final String UNRESERVED = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~";
+		private static final String SUB_DELIMS = "!$&'()*+,;=";
+		private static final String GEN_DELIMS = ":/?#[]@";
+		private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+		static final boolean[] UNRESERVED_ONLY = allowed(UNRESERVED);
+		static final boolean[] PATH = allowed(UNRESERVED, SUB_DELIMS, ":@/");
+		static final boolean[] QUERY_PARAM = allowed(UNRESERVED, "!$'()*+,;", ":@/?");
+		static final boolean[] FRAGMENT = allowed(UNRESERVED, SUB_DELIMS, ":@/?");
+		static final boolean[] LITERAL = allowed(UNRESERVED, SUB_DELIMS, GEN_DELIMS);
+
+		private static boolean[] allowed(String... sources) {
+
+			boolean[] result = new boolean[128];
+
+			for (String source : sources) {
+				for (int i = 0; i < source.length(); i++) {
+					result[source.charAt(i)] = true;
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Appends the given source to the given {@link StringBuilder} percent-encoding all characters not allowed.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param allowed the ASCII characters not to encode.
+		 * @param keepEncoded whether to keep already percent-encoded triplets untouched.
+		 * @param builder must not be {@literal null}.
+		 */
+		static void encode(String source, boolean[] allowed, boolean keepEncoded, StringBuilder builder) {
+
+			int length = source.length();
+
+			for (int i = 0; i < length; i++) {
+
+				char c = source.charAt(i);
+
+				if (c < 128 && allowed[c]) {
+					builder.append(c);
+					continue;
+				}
+
+				if (c == '%' && keepEncoded && i + 2 < length && isHex(source.charAt(i + 1)) && isHex(source.charAt(i + 2))) {
+					builder.append(source, i, i + 3);
+					i += 2;
+					continue;
+				}
+
+				int codePoint = Character.codePointAt(source, i);
+				i += Character.charCount(codePoint) - 1;
+
+				if (codePoint < 0x80) {
+					appendEncoded(codePoint, builder);
+				} else if (codePoint < 0x800) {
+					appendEncoded(0xC0 | codePoint >> 6, builder);
+					appendEncoded(0x80 | codePoint & 0x3F, builder);
+				} else if (codePoint < 0x10000) {
+					appendEncoded(0xE0 | codePoint >> 12, builder);
+					appendEncoded(0x80 | codePoint >> 6 & 0x3F, builder);
+					appendEncoded(0x80 | codePoint & 0x3F, builder);
+				} else {
+					appendEncoded(0xF0 | codePoint >> 18, builder);
+					appendEncoded(0x80 | codePoint >> 12 & 0x3F, builder);
+					appendEncoded(0x80 | codePoint >> 6 & 0x3F, builder);
+					appendEncoded(0x80 | codePoint & 0x3F, builder);
+				}
+			}
+		}
+
+		private static void appendEncoded(int b, StringBuilder builder) {
+			builder.append('%').append(HEX[b >> 4 & 0xF]).append(HEX[b & 0xF]);
+		}
+
+		private static boolean isHex(char c) {
+			return c >= '0' && c <= '9' || c >= 'A' && c <= 'F' || c >= 'a' && c <= 'f';
+		}
+	}
+}
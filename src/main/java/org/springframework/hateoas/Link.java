@@ -22,13 +22,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Wither;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlTransient;
@@ -55,7 +52,6 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 public class Link implements Serializable {
 
 	private static final long serialVersionUID = -9037755944661782121L;
-	private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
 
 	public static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
 
@@ -91,7 +87,7 @@ public class Link implements Serializable {
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+		this(UriTemplate.of(href), rel);
 	}
 
 	/**
@@ -155,7 +151,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Object... arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return new Link(getUriTemplate().expandToString(arguments), getRel());
 	}
 
 	/**
@@ -165,13 +161,13 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Map<String, ? extends Object> arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return new Link(getUriTemplate().expandToString(arguments), getRel());
 	}
 
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = UriTemplate.of(href);
 		}
 
 		return template;
@@ -184,107 +180,96 @@ public class Link implements Serializable {
 	@Override
 	public String toString() {
 
-		String linkString = String.format("<%s>;rel=\"%s\"", href, rel);
-
-		if (hreflang != null) {
-			linkString += ";hreflang=\"" + hreflang + "\"";
+		try {
+			return appendTo(new StringBuilder(getRenderedLength())).toString();
+		} catch (IOException o_O) {
+			throw new IllegalStateException(o_O);
 		}
+	}
 
-		if (media != null) {
-			linkString += ";media=\"" + media + "\"";
-		}
+	/**
+	 * Appends the RFC-5988 compatible representation of the {@link Link} to the given {@link Appendable}, i.e. the same
+	 * representation {@link #toString()} returns.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link Appendable}.
+	 * @throws IOException in case appending to the given {@link Appendable} fails.
+	 */
+	public <T extends Appendable> T appendTo(T target) throws IOException {
 
-		if (title != null) {
-			linkString += ";title=\"" + title + "\"";
-		}
+		Assert.notNull(target, "Target must not be null!");
 
-		if (type != null) {
-			linkString += ";type=\"" + type + "\"";
-		}
+		target.append('<').append(href).append('>');
 
-		if (deprecation != null) {
-			linkString += ";deprecation=\"" + deprecation + "\"";
-		}
+		appendAttribute(target, "rel", rel);
+		appendAttribute(target, "hreflang", hreflang);
+		appendAttribute(target, "media", media);
+		appendAttribute(target, "title", title);
+		appendAttribute(target, "type", type);
+		appendAttribute(target, "deprecation", deprecation);
 
-		return linkString;
+		return target;
 	}
 
 	/**
-	 * Factory method to easily create {@link Link} instances from RFC-5988 compatible {@link String} representations of a
-	 * link. Will return {@literal null} if an empty or {@literal null} {@link String} is given.
+	 * Returns the number of characters the representation of the {@link Link} will most likely take up, to presize
+	 * buffers.
 	 * 
-	 * @param element an RFC-5899 compatible representation of a link.
-	 * @throws IllegalArgumentException if a non-empty {@link String} was given that does not adhere to RFC-5899.
-	 * @throws IllegalArgumentException if no {@code rel} attribute could be found.
 	 * @return
 	 */
-	public static Link valueOf(String element) {
+	int getRenderedLength() {
 
-		if (!StringUtils.hasText(element)) {
-			return null;
-		}
-
-		Pattern uriAndAttributes = Pattern.compile("<(.*)>;(.*)");
-		Matcher matcher = uriAndAttributes.matcher(element);
-
-		if (matcher.find()) {
+		return href.length() + 2 + getAttributeLength("rel", rel) + getAttributeLength("hreflang", hreflang)
+				+ getAttributeLength("media", media) + getAttributeLength("title", title) + getAttributeLength("type", type)
+				+ getAttributeLength("deprecation", deprecation);
+	}
 
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
+	private static void appendAttribute(Appendable target, String name, String value) throws IOException {
 
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
-			}
+		if (value == null) {
+			return;
+		}
 
-			Link link = new Link(matcher.group(1), attributes.get("rel"));
+		target.append(';').append(name).append("=\"");
 
-			if (attributes.containsKey("hreflang")) {
-				link = link.withHreflang(attributes.get("hreflang"));
-			}
+		if (value.indexOf('"') < 0 && value.indexOf('\\') < 0) {
+			target.append(value);
+		} else {
 
-			if (attributes.containsKey("media")) {
-				link = link.withMedia(attributes.get("media"));
-			}
+			for (int i = 0; i < value.length(); i++) {
 
-			if (attributes.containsKey("title")) {
-				link = link.withTitle(attributes.get("title"));
-			}
+				char c = value.charAt(i);
 
-			if (attributes.containsKey("type")) {
-				link = link.withType(attributes.get("type"));
-			}
+				if (c == '"' || c == '\\') {
+					target.append('\\');
+				}
 
-			if (attributes.containsKey("deprecation")) {
-				link = link.withDeprecation(attributes.get("deprecation"));
+				target.append(c);
 			}
+		}
 
-			return link;
+		target.append('"');
+	}
 
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
-		}
+	private static int getAttributeLength(String name, String value) {
+		return value == null ? 0 : name.length() + value.length() + 4;
 	}
 
 	/**
-	 * Parses the links attributes from the given source {@link String}.
+	 * Factory method to easily create {@link Link} instances from RFC-5988 compatible {@link String} representations of a
+	 * link. Will return {@literal null} if an empty or {@literal null} {@link String} is given.
 	 * 
-	 * @param source
+	 * @param element an RFC-5899 compatible representation of a link.
+	 * @throws IllegalArgumentException if a non-empty {@link String} was given that does not adhere to RFC-5899.
+	 * @throws IllegalArgumentException if no {@code rel} attribute could be found.
 	 * @return
 	 */
-	private static Map<String, String> getAttributeMap(String source) {
-
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
-		}
-
-		Map<String, String> attributes = new HashMap<String, String>();
-		Pattern keyAndValue = Pattern
-				.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}\\.\\-\\s]*|" + URI_PATTERN + ")\"");
-		Matcher matcher = keyAndValue.matcher(source);
+	public static Link valueOf(String element) {
 
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
+		if (!StringUtils.hasText(element)) {
+			return null;
 		}
 
-		return attributes;
+		return LinkHeaderParser.parseLink(element);
 	}
 }
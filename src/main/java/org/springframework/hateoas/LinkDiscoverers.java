@@ -15,9 +15,17 @@
  */
 package org.springframework.hateoas;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 /**
  * Value object to wrap a {@link PluginRegistry} for {@link LinkDiscoverer} so that it's easier to inject them into
@@ -27,6 +35,8 @@ import org.springframework.util.Assert;
  */
 public class LinkDiscoverers {
 
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
 	private final PluginRegistry<LinkDiscoverer, MediaType> discoverers;
 
 	/**
@@ -59,4 +69,74 @@ public class LinkDiscoverers {
 	public LinkDiscoverer getLinkDiscovererFor(String mediaType) {
 		return getLinkDiscovererFor(MediaType.valueOf(mediaType));
 	}
+
+	/**
+	 * Returns all links with any of the given relation types found in the given representation of the given
+	 * {@link MediaType}. {@link MultiRelLinkDiscoverer}s parse the representation only once, other
+	 * {@link LinkDiscoverer}s are asked for each relation type individually.
+	 * 
+	 * @param mediaType must not be {@literal null}.
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case no {@link LinkDiscoverer} is registered for the given {@link MediaType}.
+	 * @since 0.24
+	 */
+	public Links findLinksWithRels(MediaType mediaType, Collection<String> rels, String representation) {
+
+		Assert.notNull(rels, "Relation types must not be null!");
+
+		LinkDiscoverer discoverer = getRequiredLinkDiscovererFor(mediaType);
+
+		if (discoverer instanceof MultiRelLinkDiscoverer) {
+			return ((MultiRelLinkDiscoverer) discoverer).findLinksWithRels(rels, representation);
+		}
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (String rel : rels) {
+			links.addAll(discoverer.findLinksWithRel(rel, representation));
+		}
+
+		return new Links(links);
+	}
+
+	/**
+	 * Returns all links with any of the given relation types found in the given {@link InputStream} representation of
+	 * the given {@link MediaType}. {@link MultiRelLinkDiscoverer}s parse the representation straight from the stream,
+	 * for other {@link LinkDiscoverer}s it's read into a {@link String} (assuming UTF-8) to look up each relation type
+	 * individually.
+	 * 
+	 * @param mediaType must not be {@literal null}.
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case no {@link LinkDiscoverer} is registered for the given {@link MediaType}.
+	 * @since 0.24
+	 */
+	public Links findLinksWithRels(MediaType mediaType, Collection<String> rels, InputStream representation) {
+
+		Assert.notNull(rels, "Relation types must not be null!");
+		Assert.notNull(representation, "Representation must not be null!");
+
+		LinkDiscoverer discoverer = getRequiredLinkDiscovererFor(mediaType);
+
+		if (discoverer instanceof MultiRelLinkDiscoverer) {
+			return ((MultiRelLinkDiscoverer) discoverer).findLinksWithRels(rels, representation);
+		}
+
+		try {
+			return findLinksWithRels(mediaType, rels, StreamUtils.copyToString(representation, UTF_8));
+		} catch (IOException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private LinkDiscoverer getRequiredLinkDiscovererFor(MediaType mediaType) {
+
+		Assert.notNull(mediaType, "Media type must not be null!");
+
+		return discoverers.getPluginFor(mediaType,
+				new IllegalArgumentException(String.format("No LinkDiscoverer found for media type %s!", mediaType)));
+	}
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass parser for {@code Link} header values as defined in RFC 8288 (formerly RFC 5988), i.e. a comma separated
+ * list of link values consisting of a URI reference in angle brackets followed by parameters. Parameter values can be
+ * given as tokens or quoted strings that may contain commas, semicolons and escaped characters. Parameter names are
+ * matched case-insensitively, only the first occurrence of a parameter is considered and unknown parameters are
+ * ignored.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see Link#valueOf(String)
+ * @see Links#valueOf(String)
+ */
+final class LinkHeaderParser {
+
+	private static final String NOT_COMPLIANT = "Given link header %s is not RFC5988 compliant!";
+	private static final String NO_REL = "Link does not provide a rel attribute!";
+
+	private final String source;
+	private final int length;
+	private int position;
+
+	private LinkHeaderParser(String source) {
+
+		this.source = source;
+		this.length = source.length();
+		this.position = 0;
+	}
+
+	/**
+	 * Parses a single link value from the given source. Additional link values are ignored.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if the source is not a valid link value or doesn't contain a {@code rel}
+	 *           parameter.
+	 */
+	static Link parseLink(String source) {
+
+		LinkHeaderParser parser = new LinkHeaderParser(source);
+
+		parser.skipWhitespace();
+
+		if (!parser.hasMore() || parser.current() != '<') {
+			throw new IllegalArgumentException(String.format(NOT_COMPLIANT, source));
+		}
+
+		return parser.parseLinkValue();
+	}
+
+	/**
+	 * Parses all link values contained in the given source. Elements not starting with a URI reference are skipped.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if a link value doesn't contain a {@code rel} parameter.
+	 */
+	static List<Link> parseLinks(String source) {
+
+		LinkHeaderParser parser = new LinkHeaderParser(source);
+		List<Link> links = new ArrayList<Link>();
+
+		while (true) {
+
+			while (parser.hasMore() && (parser.current() == ',' || isWhitespace(parser.current()))) {
+				parser.position++;
+			}
+
+			if (!parser.hasMore()) {
+				return links;
+			}
+
+			if (parser.current() == '<') {
+				links.add(parser.parseLinkValue());
+			} else {
+				parser.skipToNextLinkValue();
+			}
+		}
+	}
+
+	/**
+	 * Parses the link value starting at the current position, which has to be the opening angle bracket of the URI
+	 * reference. Leaves the position at the comma separating the link value from the next one or the end of the source.
+	 *
+	 * @return
+	 */
+	private Link parseLinkValue() {
+
+		int hrefStart = position + 1;
+		int hrefEnd = source.indexOf('>', hrefStart);
+
+		if (hrefEnd < 0) {
+			throw new IllegalArgumentException(String.format(NOT_COMPLIANT, source));
+		}
+
+		this.position = hrefEnd + 1;
+
+		String rel = null, hreflang = null, media = null, title = null, type = null, deprecation = null;
+
+		while (true) {
+
+			skipWhitespace();
+
+			if (!hasMore() || current() == ',') {
+				break;
+			}
+
+			if (current() != ';') {
+				skipToNextLinkValue();
+				break;
+			}
+
+			this.position++;
+			skipWhitespace();
+
+			int nameStart = position;
+
+			while (hasMore() && isTokenCharacter(current())) {
+				this.position++;
+			}
+
+			int nameEnd = position;
+			String value = null;
+
+			skipWhitespace();
+
+			if (hasMore() && current() == '=') {
+
+				this.position++;
+				skipWhitespace();
+
+				value = parseParameterValue();
+			}
+
+			if (isParameter(nameStart, nameEnd, "rel")) {
+				rel = rel == null ? value : rel;
+			} else if (isParameter(nameStart, nameEnd, "hreflang")) {
+				hreflang = hreflang == null ? value : hreflang;
+			} else if (isParameter(nameStart, nameEnd, "media")) {
+				media = media == null ? value : media;
+			} else if (isParameter(nameStart, nameEnd, "title")) {
+				title = title == null ? value : title;
+			} else if (isParameter(nameStart, nameEnd, "type")) {
+				type = type == null ? value : type;
+			} else if (isParameter(nameStart, nameEnd, "deprecation")) {
+				deprecation = deprecation == null ? value : deprecation;
+			}
+		}
+
+		if (rel == null || rel.length() == 0) {
+			throw new IllegalArgumentException(NO_REL);
+		}
+
+		Link link = new Link(source.substring(hrefStart, hrefEnd), rel);
+
+		if (hreflang == null && media == null && title == null && type == null && deprecation == null) {
+			return link;
+		}
+
+		return new Link(link.getRel(), link.getHref(), hreflang, media, title, type, deprecation, link.getTemplate());
+	}
+
+	/**
+	 * Parses a parameter value given either as quoted string or as token.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private String parseParameterValue() {
+
+		if (!hasMore() || current() != '"') {
+
+			int start = position;
+
+			while (hasMore() && current() > ' ' && current() != ';' && current() != ',') {
+				this.position++;
+			}
+
+			return source.substring(start, position);
+		}
+
+		int start = ++position;
+		StringBuilder builder = null;
+
+		while (hasMore()) {
+
+			char c = current();
+
+			if (c == '"') {
+
+				String result = builder == null ? source.substring(start, position)
+						: builder.append(source, start, position).toString();
+
+				this.position++;
+				return result;
+			}
+
+			if (c == '\\' && position + 1 < length) {
+
+				builder = builder == null ? new StringBuilder() : builder;
+				builder.append(source, start, position);
+
+				this.position++;
+				start = position;
+			}
+
+			this.position++;
+		}
+
+		throw new IllegalArgumentException(String.format(NOT_COMPLIANT, source));
+	}
+
+	/**
+	 * Moves the position to the next comma that is not part of a quoted string or the end of the source.
+	 */
+	private void skipToNextLinkValue() {
+
+		boolean quoted = false;
+
+		while (hasMore()) {
+
+			char c = current();
+
+			if (c == ',' && !quoted) {
+				return;
+			}
+
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (c == '\\' && quoted) {
+				this.position++;
+			}
+
+			this.position++;
+		}
+	}
+
+	private boolean isParameter(int start, int end, String name) {
+		return end - start == name.length() && source.regionMatches(true, start, name, 0, name.length());
+	}
+
+	private void skipWhitespace() {
+
+		while (hasMore() && isWhitespace(current())) {
+			this.position++;
+		}
+	}
+
+	private boolean hasMore() {
+		return position < length;
+	}
+
+	private char current() {
+		return source.charAt(position);
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
+	/**
+	 * Returns whether the given character can be part of a parameter name.
+	 *
+	 * @param c
+	 * @return
+	 */
+	private static boolean isTokenCharacter(char c) {
+		return c > ' ' && c != ';' && c != ',' && c != '=' && c != '"' && c != '<' && c != '>' && c != 0x7f;
+	}
+}
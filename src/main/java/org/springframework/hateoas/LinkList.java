@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ArrayList} of {@link Link}s that allows to look up links by their relation type. Small lists are scanned
+ * linearly. Once a list contains {@value #INDEX_THRESHOLD} links or more, an index by relation type is built lazily on
+ * lookup and rebuilt once the list has been modified. The index is published as an immutable snapshot through a
+ * {@code volatile} field, so that concurrent lookups on a {@link LinkList} not modified anymore, e.g. of a cached
+ * resource, are safe. The static lookup methods fall back to a linear scan for {@link List}s of other types, e.g. if
+ * Jackson replaced a {@link LinkList} on deserialization.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+class LinkList extends ArrayList<Link> {
+
+	private static final long serialVersionUID = 6254178464235471213L;
+
+	static final int INDEX_THRESHOLD = 8;
+
+	private transient volatile Index index;
+
+	/**
+	 * Creates a new, empty {@link LinkList}.
+	 */
+	public LinkList() {
+		super();
+	}
+
+	/**
+	 * Creates a new {@link LinkList} containing the given {@link Link}s.
+	 *
+	 * @param links must not be {@literal null}.
+	 */
+	public LinkList(Collection<Link> links) {
+		super(links);
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given relation type.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param rel can be {@literal null}.
+	 * @return the {@link Link} with the given rel or {@literal null} if none found.
+	 */
+	static Link getLink(List<Link> links, String rel) {
+
+		if (links.size() < INDEX_THRESHOLD || !(links instanceof LinkList)) {
+
+			for (Link link : links) {
+				if (link.getRel().equals(rel)) {
+					return link;
+				}
+			}
+
+			return null;
+		}
+
+		List<Link> result = ((LinkList) links).getIndex().get(rel);
+		return result == null ? null : result.get(0);
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relation type in the order they were added.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param rel can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static List<Link> getLinks(List<Link> links, String rel) {
+
+		if (links.size() < INDEX_THRESHOLD || !(links instanceof LinkList)) {
+
+			List<Link> result = new ArrayList<Link>();
+
+			for (Link link : links) {
+				if (link.getRel().equals(rel)) {
+					result.add(link);
+				}
+			}
+
+			return result;
+		}
+
+		List<Link> result = ((LinkList) links).getIndex().get(rel);
+		return result == null ? new ArrayList<Link>() : new ArrayList<Link>(result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.ArrayList#set(int, java.lang.Object)
+	 */
+	@Override
+	public Link set(int index, Link element) {
+
+		// Replacing an element is no structural modification, so it doesn't change the mod count
+		this.index = null;
+		return super.set(index, element);
+	}
+
+	private Map<String, List<Link>> getIndex() {
+
+		Index current = this.index;
+
+		if (current != null && current.modCount == modCount) {
+			return current.links;
+		}
+
+		Map<String, List<Link>> result = new HashMap<String, List<Link>>();
+
+		for (Link link : this) {
+
+			List<Link> links = result.get(link.getRel());
+
+			if (links == null) {
+				result.put(link.getRel(), Collections.singletonList(link));
+			} else if (links.size() == 1) {
+
+				List<Link> multiple = new ArrayList<Link>(2);
+				multiple.add(links.get(0));
+				multiple.add(link);
+
+				result.put(link.getRel(), multiple);
+
+			} else {
+				links.add(link);
+			}
+		}
+
+		this.index = new Index(result, modCount);
+
+		return result;
+	}
+
+	/**
+	 * Immutable snapshot of the index by relation type along with the modification count of the list it was built for.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Index {
+
+		private final Map<String, List<Link>> links;
+		private final int modCount;
+
+		public Index(Map<String, List<Link>> links, int modCount) {
+
+			this.links = links;
+			this.modCount = modCount;
+		}
+	}
+}
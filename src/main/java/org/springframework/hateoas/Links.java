@@ -15,14 +15,13 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -33,11 +32,9 @@ import org.springframework.util.StringUtils;
  */
 public class Links implements Iterable<Link> {
 
-	private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\w+=\"[^\"]*\")+)");
-
 	static final Links NO_LINKS = new Links(Collections.<Link> emptyList());
 
-	private final List<Link> links;
+	private final LinkList links;
 
 	/**
 	 * Creates a new {@link Links} instance from the given {@link Link}s.
@@ -45,7 +42,7 @@ public class Links implements Iterable<Link> {
 	 * @param links
 	 */
 	public Links(List<Link> links) {
-		this.links = links == null ? Collections.<Link> emptyList() : Collections.unmodifiableList(links);
+		this.links = links == null ? new LinkList() : new LinkList(links);
 	}
 
 	/**
@@ -64,14 +61,7 @@ public class Links implements Iterable<Link> {
 	 * @return the {@link Link} with the given rel or {@literal null} if none found.
 	 */
 	public Link getLink(String rel) {
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				return link;
-			}
-		}
-
-		return null;
+		return LinkList.getLink(links, rel);
 	}
 
 	/**
@@ -80,16 +70,7 @@ public class Links implements Iterable<Link> {
 	 * @return the links
 	 */
 	public List<Link> getLinks(String rel) {
-
-		List<Link> result = new ArrayList<Link>();
-
-		for (Link link : links) {
-			if (link.getRel().endsWith(rel)) {
-				result.add(link);
-			}
-		}
-
-		return result;
+		return LinkList.getLinks(links, rel);
 	}
 
 	/**
@@ -114,19 +95,7 @@ public class Links implements Iterable<Link> {
 			return NO_LINKS;
 		}
 
-		Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
-		List<Link> links = new ArrayList<Link>();
-
-		while (matcher.find()) {
-
-			Link link = Link.valueOf(matcher.group());
-
-			if (link != null) {
-				links.add(link);
-			}
-		}
-
-		return new Links(links);
+		return new Links(LinkHeaderParser.parseLinks(source));
 	}
 
 	/**
@@ -144,7 +113,42 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public String toString() {
-		return StringUtils.collectionToCommaDelimitedString(links);
+
+		int length = Math.max(links.size() - 1, 0);
+
+		for (Link link : links) {
+			length += link.getRenderedLength();
+		}
+
+		try {
+			return appendTo(new StringBuilder(length)).toString();
+		} catch (IOException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * Appends the RFC-5988 compatible representation of all {@link Link}s, separated by commas, to the given
+	 * {@link Appendable}, i.e. the same representation {@link #toString()} returns.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link Appendable}.
+	 * @throws IOException in case appending to the given {@link Appendable} fails.
+	 */
+	public <T extends Appendable> T appendTo(T target) throws IOException {
+
+		Assert.notNull(target, "Target must not be null!");
+
+		for (int i = 0; i < links.size(); i++) {
+
+			if (i != 0) {
+				target.append(',');
+			}
+
+			links.get(i).appendTo(target);
+		}
+
+		return target;
 	}
 
 	/* 
@@ -153,7 +157,7 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public Iterator<Link> iterator() {
-		return links.iterator();
+		return Collections.unmodifiableList(links).iterator();
 	}
 
 	/* 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.InputStream;
+import java.util.Collection;
+
+/**
+ * Extension of {@link LinkDiscoverer} for implementations able to look up links for multiple relation types while
+ * parsing the representation only once. {@link LinkDiscoverers#findLinksWithRels(org.springframework.http.MediaType,
+ * Collection, String)} falls back to individual lookups for {@link LinkDiscoverer}s not implementing this interface.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+public interface MultiRelLinkDiscoverer extends LinkDiscoverer {
+
+	/**
+	 * Returns all links with any of the given relation types found in the given {@link String} representation. The
+	 * representation is only parsed once, no matter how many relation types are requested.
+	 * 
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Links findLinksWithRels(Collection<String> rels, String representation);
+
+	/**
+	 * Returns all links with any of the given relation types found in the given {@link InputStream} representation. The
+	 * representation is only parsed once, no matter how many relation types are requested.
+	 * 
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	Links findLinksWithRels(Collection<String> rels, InputStream representation);
+}
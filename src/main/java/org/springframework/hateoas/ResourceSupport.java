@@ -15,7 +15,6 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,7 +35,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	private final List<Link> links;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<Link>();
+		this.links = new LinkList();
 	}
 
 	/**
@@ -123,14 +122,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the link with the given rel or {@literal null} if none found.
 	 */
 	public Link getLink(String rel) {
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				return link;
-			}
-		}
-
-		return null;
+		return LinkList.getLink(links, rel);
 	}
 
 	/**
@@ -139,16 +131,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the links in a {@link List}
 	 */
 	public List<Link> getLinks(String rel) {
-
-		List<Link> relatedLinks = new ArrayList<Link>();
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				relatedLinks.add(link);
-			}
-		}
-
-		return relatedLinks;
+		return LinkList.getLinks(links, rel);
 	}
 
 	/* 
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Resources} backed by an {@link Iterable} that is not copied into memory up front but iterated when the
+ * representation is rendered. This allows to export large amounts of elements, e.g. read from a database cursor or a
+ * Java 8 {@code Stream} (via {@code stream::iterator}), without materializing them as a whole. The HAL rendering
+ * writes the elements as they are iterated.
+ * <p>
+ * The source is iterated only once if possible. Operations that need to know the number of elements upfront, e.g.
+ * {@link Collection#size()} on {@link #getContent()}, will buffer the remaining elements.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+public class StreamingResources<T> extends Resources<T> {
+
+	private final StreamingContent<T> content;
+
+	/**
+	 * Creates a new {@link StreamingResources} for the given source and {@link Link}s (optional).
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param links the links to be added to the {@link StreamingResources}.
+	 */
+	public StreamingResources(Iterable<T> source, Link... links) {
+		this(source, Arrays.asList(links));
+	}
+
+	/**
+	 * Creates a new {@link StreamingResources} for the given source and {@link Link}s.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param links the links to be added to the {@link StreamingResources}.
+	 */
+	public StreamingResources(Iterable<T> source, Iterable<Link> links) {
+
+		super(Collections.<T> emptyList(), links);
+
+		Assert.notNull(source, "Source must not be null!");
+
+		this.content = new StreamingContent<T>(source);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#getContent()
+	 */
+	@Override
+	public Collection<T> getContent() {
+		return content;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("StreamingResources { source: %s, %s }", content.source, getLinks());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (obj == this) {
+			return true;
+		}
+
+		if (!super.equals(obj)) {
+			return false;
+		}
+
+		StreamingResources<?> that = (StreamingResources<?>) obj;
+
+		return this.content.source.equals(that.content.source);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return super.hashCode() + 31 * content.source.hashCode();
+	}
+
+	/**
+	 * Unmodifiable {@link Collection} view of an {@link Iterable} that hands out the first {@link Iterator} obtained from
+	 * the source so that checking for emptiness doesn't consume a source that can only be iterated once.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class StreamingContent<T> extends AbstractCollection<T> {
+
+		private final Iterable<T> source;
+
+		private Iterator<T> pending;
+		private List<T> buffer;
+
+		public StreamingContent(Iterable<T> source) {
+			this.source = source;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#iterator()
+		 */
+		@Override
+		public synchronized Iterator<T> iterator() {
+
+			if (buffer != null) {
+				return Collections.unmodifiableList(buffer).iterator();
+			}
+
+			Iterator<T> result = pending == null ? source.iterator() : pending;
+			this.pending = null;
+
+			return new UnmodifiableIterator<T>(result);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#isEmpty()
+		 */
+		@Override
+		public synchronized boolean isEmpty() {
+
+			if (buffer != null) {
+				return buffer.isEmpty();
+			}
+
+			if (pending == null) {
+				this.pending = source.iterator();
+			}
+
+			return !pending.hasNext();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public synchronized int size() {
+
+			if (buffer == null) {
+
+				Iterator<T> iterator = pending == null ? source.iterator() : pending;
+				List<T> elements = new ArrayList<T>();
+
+				while (iterator.hasNext()) {
+					elements.add(iterator.next());
+				}
+
+				this.buffer = elements;
+				this.pending = null;
+			}
+
+			return buffer.size();
+		}
+	}
+
+	private static class UnmodifiableIterator<T> implements Iterator<T> {
+
+		private final Iterator<T> delegate;
+
+		public UnmodifiableIterator(Iterator<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+			return delegate.next();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -41,6 +41,8 @@ public final class TemplateVariable implements Serializable {
 	String name;
 	TemplateVariable.VariableType type;
 	String description;
+	int prefixLength;
+	boolean exploded;
 
 	/**
 	 * Creates a new {@link TemplateVariable} with the given name and type.
@@ -60,14 +62,32 @@ public final class TemplateVariable implements Serializable {
 	 * @param description must not be {@literal null}.
 	 */
 	public TemplateVariable(String name, TemplateVariable.VariableType type, String description) {
+		this(name, type, description, 0, false);
+	}
+
+	/**
+	 * Creates a new {@link TemplateVariable} with the given name, type, description and modifiers.
+	 * 
+	 * @param name must not be {@literal null} or empty.
+	 * @param type must not be {@literal null}.
+	 * @param description must not be {@literal null}.
+	 * @param prefixLength the maximum number of characters of the value to expand, {@literal 0} for no limit.
+	 * @param exploded whether composite values are expanded into one item per element.
+	 */
+	TemplateVariable(String name, TemplateVariable.VariableType type, String description, int prefixLength,
+			boolean exploded) {
 
 		Assert.hasText(name, "Variable name must not be null or empty!");
 		Assert.notNull(type, "Variable type must not be null!");
 		Assert.notNull(description, "Description must not be null!");
+		Assert.isTrue(prefixLength >= 0, "Prefix length must not be negative!");
+		Assert.isTrue(prefixLength == 0 || !exploded, "Variable must not be exploded and have a prefix at the same time!");
 
 		this.name = name;
 		this.type = type;
 		this.description = description;
+		this.prefixLength = prefixLength;
+		this.exploded = exploded;
 	}
 
 	/**
@@ -128,6 +148,16 @@ public final class TemplateVariable implements Serializable {
 		return type.equals(FRAGMENT);
 	}
 
+	/**
+	 * Returns the variable specification as used in a template expression, i.e. the name followed by the prefix or
+	 * explode modifier if present.
+	 * 
+	 * @return
+	 */
+	String toVarSpec() {
+		return exploded ? name.concat("*") : prefixLength > 0 ? name + ":" + prefixLength : name;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -135,7 +165,7 @@ public final class TemplateVariable implements Serializable {
 	@Override
 	public String toString() {
 
-		String base = String.format("{%s%s}", type.toString(), name);
+		String base = String.format("{%s%s}", type.toString(), toVarSpec());
 		return StringUtils.hasText(description) ? String.format("%s - %s", base, description) : base;
 	}
 
@@ -147,6 +177,9 @@ public final class TemplateVariable implements Serializable {
 	public enum VariableType {
 
 		PATH_VARIABLE("", false), //
+		RESERVED("+", false), //
+		LABEL(".", true), //
+		PATH_STYLE(";", true), //
 		REQUEST_PARAM("?", true), //
 		REQUEST_PARAM_CONTINUED("&", true), //
 		SEGMENT("/", true), //
@@ -170,7 +170,7 @@ public final class TemplateVariables implements Iterable<TemplateVariable>, Seri
 			}
 
 			previous = variable;
-			builder.append(variable.getName());
+			builder.append(variable.toVarSpec());
 		}
 
 		return builder.append("}").toString();
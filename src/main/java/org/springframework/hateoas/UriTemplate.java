@@ -18,21 +18,19 @@ package org.springframework.hateoas;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Custom URI template to support qualified URI template variables.
+ * Custom URI template to support qualified URI template variables. All expression types of RFC 6570 up to level 4
+ * including prefix and explode modifiers are supported. Templates are compiled once and the compiled form is cached and
+ * shared by all {@link UriTemplate} instances created for the same template string.
  * 
  * @author Oliver Gierke
  * @see http://tools.ietf.org/html/rfc6570
@@ -40,11 +38,12 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,]+)\\}");
 	private static final long serialVersionUID = -1007874653930162262L;
 
 	private final TemplateVariables variables;
 	private String baseUri;
+	private transient CompiledUriTemplate compiled;
+	private transient String string;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -55,30 +54,11 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
-		int baseUriEndIndex = template.length();
-		List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
+		CompiledUriTemplate compiled = CompiledUriTemplate.compile(template);
 
-		while (matcher.find()) {
-
-			int start = matcher.start(0);
-
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
-
-			for (String name : names) {
-				TemplateVariable variable = new TemplateVariable(name, type);
-
-				if (!variable.isRequired() && start < baseUriEndIndex) {
-					baseUriEndIndex = start;
-				}
-
-				variables.add(variable);
-			}
-		}
-
-		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
-		this.baseUri = template.substring(0, baseUriEndIndex);
+		this.variables = compiled.getVariables();
+		this.baseUri = compiled.getBaseUri();
+		this.compiled = compiled;
 	}
 
 	/**
@@ -95,6 +75,24 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		this.variables = variables == null ? TemplateVariables.NONE : variables;
 	}
 
+	/**
+	 * Returns the {@link UriTemplate} for the given template string. In contrast to {@link #UriTemplate(String)}, the
+	 * instance for a string containing template expressions is looked up from the shared {@link UriTemplateCache} so
+	 * that repeated calls for the same template string don't parse it again. Plain URIs are cheap to parse and mostly
+	 * unique, so they bypass the cache.
+	 * 
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 0.24
+	 * @see UriTemplateCache#getSharedInstance()
+	 */
+	public static UriTemplate of(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		return template.indexOf('{') < 0 ? new UriTemplate(template) : UriTemplateCache.getSharedInstance().get(template);
+	}
+
 	/**
 	 * Creates a new {@link UriTemplate} with the current {@link TemplateVariable}s augmented with the given ones.
 	 * 
@@ -152,7 +150,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return !CompiledUriTemplate.of(candidate).getVariables().asList().isEmpty();
 	}
 
 	/**
@@ -189,22 +187,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 * @see #expand(Map)
 	 */
 	public URI expand(Object... parameters) {
-
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
-
-		for (TemplateVariable variable : getOptionalVariables()) {
-
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
-		}
-
-		return builder.build().toUri();
+		return URI.create(expandToString(parameters));
 	}
 
 	/**
@@ -214,21 +197,35 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 * @return
 	 */
 	public URI expand(Map<String, ? extends Object> parameters) {
+		return URI.create(expandToString(parameters));
+	}
 
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
-		Assert.notNull(parameters, "Parameters must not be null!");
+	/**
+	 * Expands the {@link UriTemplate} using the given parameters into a {@link String}. The values will be applied in
+	 * the order of the variables discovered. Prefer this method over {@link #expand(Object...)} if you don't need a
+	 * {@link URI} instance.
+	 * 
+	 * @param parameters
+	 * @return
+	 * @since 0.24
+	 */
+	public String expandToString(Object... parameters) {
+		return getCompiled().expand(parameters == null ? new Object[0] : parameters);
+	}
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
+	/**
+	 * Expands the {@link UriTemplate} using the given parameters into a {@link String}. Prefer this method over
+	 * {@link #expand(Map)} if you don't need a {@link URI} instance.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	public String expandToString(Map<String, ? extends Object> parameters) {
 
-		for (TemplateVariable variable : getOptionalVariables()) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
-		}
+		Assert.notNull(parameters, "Parameters must not be null!");
 
-		return builder.build().toUri();
+		return getCompiled().expand(parameters);
 	}
 
 	/* 
@@ -247,18 +244,34 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	@Override
 	public String toString() {
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+		if (string == null) {
+			this.string = baseUri + getOptionalVariables().toString(hasQueryParameters(baseUri));
+		}
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
+		return string;
 	}
 
+	CompiledUriTemplate getCompiled() {
+
+		if (compiled == null) {
+			this.compiled = CompiledUriTemplate.of(toString());
+		}
+
+		return compiled;
+	}
+
+	/**
+	 * Returns the optional {@link TemplateVariable}s that are not already part of the base URI.
+	 * 
+	 * @return
+	 */
 	private TemplateVariables getOptionalVariables() {
 
+		List<TemplateVariable> baseVariables = CompiledUriTemplate.of(baseUri).getVariables().asList();
 		List<TemplateVariable> result = new ArrayList<TemplateVariable>();
 
 		for (TemplateVariable variable : this) {
-			if (!variable.isRequired()) {
+			if (!variable.isRequired() && !baseVariables.contains(variable)) {
 				result.add(variable);
 			}
 		}
@@ -267,36 +280,17 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	}
 
 	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
+	 * Returns whether the given URI contains a query with at least one parameter.
 	 * 
-	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
+	 * @param uri must not be {@literal null}.
+	 * @return
 	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
+	private static boolean hasQueryParameters(String uri) {
 
-		if (value == null) {
-
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(String.format("Template variable %s is required but no value was given!",
-						variable.getName()));
-			}
+		int fragmentIndex = uri.indexOf('#');
+		int end = fragmentIndex < 0 ? uri.length() : fragmentIndex;
+		int queryIndex = uri.indexOf('?');
 
-			return;
-		}
-
-		switch (variable.getType()) {
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
-		}
+		return queryIndex >= 0 && queryIndex + 1 < end;
 	}
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache to intern {@link UriTemplate}s by their template string, so that the same template showing up over
+ * and over again, e.g. in the links of a collection resource, is only parsed once and shared by all {@link Link}s
+ * pointing to it. The cache is split into segments that are locked individually and evict their least recently used
+ * entries once full. {@link UriTemplate#of(String)} only consults the shared instance for strings containing template
+ * expressions, so that the mostly unique plain URIs of concrete links don't thrash it.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see UriTemplate#of(String)
+ */
+public final class UriTemplateCache {
+
+	private static final int DEFAULT_MAX_SIZE = 1024;
+	private static final int SEGMENTS = 16;
+
+	private static final UriTemplateCache SHARED_INSTANCE = new UriTemplateCache(DEFAULT_MAX_SIZE);
+
+	private final Segment[] segments;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Creates a new {@link UriTemplateCache} holding at most the given number of {@link UriTemplate}s.
+	 *
+	 * @param maxSize must be greater than or equal to the number of segments, i.e. 16.
+	 */
+	public UriTemplateCache(int maxSize) {
+
+		Assert.isTrue(maxSize >= SEGMENTS, String.format("Max size must be at least %s!", SEGMENTS));
+
+		this.segments = new Segment[SEGMENTS];
+
+		for (int i = 0; i < SEGMENTS; i++) {
+			this.segments[i] = new Segment(maxSize / SEGMENTS);
+		}
+	}
+
+	/**
+	 * Returns the {@link UriTemplateCache} shared by {@link UriTemplate#of(String)} and thus {@link Link}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static UriTemplateCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link UriTemplate} for the given template string, creating and caching a new one if none is cached
+	 * yet.
+	 *
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public UriTemplate get(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		Segment segment = getSegment(template);
+		UriTemplate result;
+
+		synchronized (segment) {
+
+			result = segment.get(template);
+
+			if (result != null) {
+				hits.incrementAndGet();
+				return result;
+			}
+		}
+
+		misses.incrementAndGet();
+		result = new UriTemplate(template);
+
+		synchronized (segment) {
+
+			UriTemplate existing = segment.get(template);
+
+			if (existing != null) {
+				return existing;
+			}
+
+			segment.put(template, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of lookups that could be served from the cache.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups that required a {@link UriTemplate} to be created.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries removed from the cache because it was full.
+	 *
+	 * @return
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	/**
+	 * Returns the number of entries currently held in the cache.
+	 *
+	 * @return
+	 */
+	public int size() {
+
+		int size = 0;
+
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Removes all entries from the cache and resets the statistics.
+	 */
+	public void clear() {
+
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+
+		hits.set(0);
+		misses.set(0);
+		evictions.set(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("UriTemplateCache(size=%s, hits=%s, misses=%s, evictions=%s)", size(), getHitCount(),
+				getMissCount(), getEvictionCount());
+	}
+
+	private Segment getSegment(String template) {
+
+		int hash = template.hashCode();
+		return segments[(hash ^ hash >>> 16) & SEGMENTS - 1];
+	}
+
+	/**
+	 * A single segment of the cache evicting the least recently used entry once full. All access has to be synchronized
+	 * on the segment.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class Segment extends LinkedHashMap<String, UriTemplate> {
+
+		private static final long serialVersionUID = -2476447853718916651L;
+
+		private final int maxSize;
+
+		Segment(int maxSize) {
+
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, UriTemplate> eldest) {
+
+			if (size() <= maxSize) {
+				return false;
+			}
+
+			evictions.incrementAndGet();
+			return true;
+		}
+	}
+}
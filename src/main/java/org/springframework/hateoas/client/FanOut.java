@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * Runs asynchronous tasks with a bounded number of them in flight at a time and collects their results in the order
+ * the tasks were given, independently of the order they complete in. A new task is only started once a running one
+ * has completed. The first failure fails the entire execution and prevents the tasks not started yet from running.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see Traverson.TraversalBuilder#fanOut(String)
+ */
+final class FanOut<T> {
+
+	private final List<Callable<ListenableFuture<T>>> tasks;
+	private final Object[] results;
+	private final SettableListenableFuture<List<T>> result;
+
+	private int started;
+	private int completed;
+	private int startsRequested;
+	private boolean starting;
+
+	/**
+	 * Creates a new {@link FanOut} for the given tasks.
+	 *
+	 * @param tasks must not be {@literal null}.
+	 */
+	private FanOut(List<Callable<ListenableFuture<T>>> tasks) {
+
+		this.tasks = tasks;
+		this.results = new Object[tasks.size()];
+		this.result = new SettableListenableFuture<List<T>>();
+	}
+
+	/**
+	 * Runs the given tasks with at most the given number of them in flight at a time and returns their results in the
+	 * order of the tasks. Blocks until all tasks have completed or one of them has failed.
+	 *
+	 * @param tasks must not be {@literal null}.
+	 * @param parallelism must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	static <T> List<T> execute(List<Callable<ListenableFuture<T>>> tasks, int parallelism) {
+
+		Assert.notNull(tasks, "Tasks must not be null!");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+		if (tasks.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		FanOut<T> fanOut = new FanOut<T>(new ArrayList<Callable<ListenableFuture<T>>>(tasks));
+
+		fanOut.start(Math.min(parallelism, tasks.size()));
+
+		return Futures.await(fanOut.result, "fanned out traversals");
+	}
+
+	/**
+	 * Starts the given number of tasks not started yet, if any, unless the execution has failed already. Tasks are
+	 * started in a loop by the first caller only. Callers arriving while that loop is running, e.g. the callback of a task
+	 * that completed right away, just add to the number of tasks to start. Thus the stack doesn't grow with the number
+	 * of tasks completing synchronously.
+	 * 
+	 * @param count the number of tasks to start.
+	 */
+	private void start(int count) {
+
+		synchronized (this) {
+
+			startsRequested += count;
+
+			if (starting) {
+				return;
+			}
+
+			starting = true;
+		}
+
+		while (true) {
+
+			int index;
+
+			synchronized (this) {
+
+				if (startsRequested == 0 || started == tasks.size() || result.isDone()) {
+					starting = false;
+					return;
+				}
+
+				startsRequested--;
+				index = started++;
+			}
+
+			start(index, tasks.get(index));
+		}
+	}
+
+	/**
+	 * Invokes the given task and registers the callback collecting its result under the given index.
+	 * 
+	 * @param index the index of the task.
+	 * @param task must not be {@literal null}.
+	 */
+	private void start(final int index, Callable<ListenableFuture<T>> task) {
+
+		ListenableFuture<T> future;
+
+		try {
+			future = task.call();
+		} catch (Exception o_O) {
+			result.setException(o_O);
+			return;
+		}
+
+		future.addCallback(new ListenableFutureCallback<T>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.util.concurrent.SuccessCallback#onSuccess(java.lang.Object)
+			 */
+			@Override
+			public void onSuccess(T value) {
+
+				boolean done;
+
+				synchronized (FanOut.this) {
+
+					results[index] = value;
+					done = ++completed == results.length;
+				}
+
+				if (done) {
+					result.set(getResults());
+				} else {
+					start(1);
+				}
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.util.concurrent.FailureCallback#onFailure(java.lang.Throwable)
+			 */
+			@Override
+			public void onFailure(Throwable ex) {
+				result.setException(ex);
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized List<T> getResults() {
+		return (List<T>) Arrays.asList(results.clone());
+	}
+}
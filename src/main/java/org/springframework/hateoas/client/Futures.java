@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Helper to wait for the result of a {@link Future} and rethrow its failure unchecked.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+final class Futures {
+
+	private Futures() {}
+
+	/**
+	 * Waits for the result of the given {@link Future}. A failure of the {@link Future} is rethrown as is if unchecked or
+	 * wrapped into an {@link IllegalStateException} otherwise.
+	 *
+	 * @param future must not be {@literal null}.
+	 * @param description what is waited for, used in exception messages.
+	 * @return
+	 */
+	static <T> T await(Future<T> future, String description) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException o_O) {
+			throw interrupted(description, o_O);
+		} catch (ExecutionException o_O) {
+			throw unwrap(o_O);
+		}
+	}
+
+	/**
+	 * Waits at most the given time for the result of the given {@link Future}. Fails with a
+	 * {@link ResourceAccessException} if the result isn't available in time.
+	 *
+	 * @param future must not be {@literal null}.
+	 * @param timeout
+	 * @param unit must not be {@literal null}.
+	 * @param description what is waited for, used in exception messages.
+	 * @return
+	 * @see #await(Future, String)
+	 */
+	static <T> T await(Future<T> future, long timeout, TimeUnit unit, String description) {
+
+		try {
+			return future.get(timeout, unit);
+		} catch (InterruptedException o_O) {
+			throw interrupted(description, o_O);
+		} catch (TimeoutException o_O) {
+			throw new ResourceAccessException(
+					String.format("Timed out after %s %s waiting for %s!", timeout, unit, description), new IOException(o_O));
+		} catch (ExecutionException o_O) {
+			throw unwrap(o_O);
+		}
+	}
+
+	private static IllegalStateException interrupted(String description, InterruptedException exception) {
+
+		Thread.currentThread().interrupt();
+		return new IllegalStateException(String.format("Interrupted while waiting for %s!", description), exception);
+	}
+
+	private static RuntimeException unwrap(ExecutionException exception) {
+
+		Throwable cause = exception.getCause();
+
+		if (cause instanceof RuntimeException) {
+			return (RuntimeException) cause;
+		}
+
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+
+		return new IllegalStateException(cause);
+	}
+}
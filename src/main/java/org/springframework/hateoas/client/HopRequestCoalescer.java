@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.net.URI;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Coalesces concurrent, identical requests issued for the intermediate hops of {@link Traverson} traversals, so that
+ * traversals running at the same time share a single in-flight request per URI and request headers and all receive its
+ * result. Requests are only shared while in flight, i.e. a request issued after the previous identical one has
+ * completed hits the server again. Use a {@link HopResponseCache} to reuse completed responses.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see Traverson#setHopRequestCoalescer(HopRequestCoalescer)
+ */
+public final class HopRequestCoalescer {
+
+	private static final long DEFAULT_TIMEOUT_SECONDS = 60;
+
+	private final ConcurrentMap<String, SettableListenableFuture<ResponseEntity<String>>> inFlight;
+	private final long timeout;
+	private final TimeUnit unit;
+
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong collapsed = new AtomicLong();
+
+	/**
+	 * Creates a new {@link HopRequestCoalescer} letting synchronous callers wait up to 60 seconds for the result of an
+	 * identical request in flight.
+	 */
+	public HopRequestCoalescer() {
+		this(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Creates a new {@link HopRequestCoalescer} letting synchronous callers wait up to the given time for the result of
+	 * an identical request in flight. Callers waiting longer fail with a {@link ResourceAccessException}.
+	 *
+	 * @param timeout must be greater than zero.
+	 * @param unit must not be {@literal null}.
+	 */
+	public HopRequestCoalescer(long timeout, TimeUnit unit) {
+
+		Assert.isTrue(timeout > 0, "Timeout must be greater than zero!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.inFlight = new ConcurrentHashMap<String, SettableListenableFuture<ResponseEntity<String>>>();
+		this.timeout = timeout;
+		this.unit = unit;
+	}
+
+	/**
+	 * Returns the number of requests actually issued.
+	 *
+	 * @return
+	 */
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	/**
+	 * Returns the number of requests that were not issued but got the result of an identical request in flight.
+	 *
+	 * @return
+	 */
+	public long getCollapsedCount() {
+		return collapsed.get();
+	}
+
+	/**
+	 * Returns the number of requests currently in flight.
+	 *
+	 * @return
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("HopRequestCoalescer(requests=%s, collapsed=%s, inFlight=%s)", getRequestCount(),
+				getCollapsedCount(), getInFlightCount());
+	}
+
+	/**
+	 * Executes the given {@link Callable} to issue the given request unless an identical one is in flight already, in
+	 * which case the calling thread waits for the result of that one.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param exchange must not be {@literal null}.
+	 * @return
+	 */
+	ResponseEntity<String> exchange(URI uri, HttpEntity<?> request, Callable<ResponseEntity<String>> exchange) {
+
+		String key = getKey(uri, request);
+		SettableListenableFuture<ResponseEntity<String>> future = new SettableListenableFuture<ResponseEntity<String>>();
+		SettableListenableFuture<ResponseEntity<String>> existing = inFlight.putIfAbsent(key, future);
+
+		if (existing != null) {
+
+			collapsed.incrementAndGet();
+			return Futures.await(existing, timeout, unit, "coalesced request");
+		}
+
+		requests.incrementAndGet();
+
+		try {
+
+			ResponseEntity<String> response = exchange.call();
+
+			inFlight.remove(key, future);
+			future.set(response);
+
+			return response;
+
+		} catch (RuntimeException o_O) {
+
+			complete(key, future, o_O);
+			throw o_O;
+
+		} catch (Error o_O) {
+
+			complete(key, future, o_O);
+			throw o_O;
+
+		} catch (Exception o_O) {
+
+			IllegalStateException exception = new IllegalStateException(o_O);
+
+			complete(key, future, exception);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Executes the given {@link Callable} to issue the given request asynchronously unless an identical one is in flight
+	 * already, in which case the {@link ListenableFuture} of that one is returned.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param exchange must not be {@literal null}.
+	 * @return
+	 */
+	ListenableFuture<ResponseEntity<String>> exchangeAsync(URI uri, HttpEntity<?> request,
+			Callable<ListenableFuture<ResponseEntity<String>>> exchange) {
+
+		final String key = getKey(uri, request);
+		final SettableListenableFuture<ResponseEntity<String>> future = //
+				new SettableListenableFuture<ResponseEntity<String>>();
+		SettableListenableFuture<ResponseEntity<String>> existing = inFlight.putIfAbsent(key, future);
+
+		if (existing != null) {
+
+			collapsed.incrementAndGet();
+			return existing;
+		}
+
+		requests.incrementAndGet();
+
+		try {
+
+			exchange.call().addCallback(new ListenableFutureCallback<ResponseEntity<String>>() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.util.concurrent.SuccessCallback#onSuccess(java.lang.Object)
+				 */
+				@Override
+				public void onSuccess(ResponseEntity<String> result) {
+
+					inFlight.remove(key, future);
+					future.set(result);
+				}
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.util.concurrent.FailureCallback#onFailure(java.lang.Throwable)
+				 */
+				@Override
+				public void onFailure(Throwable ex) {
+
+					inFlight.remove(key, future);
+					future.setException(ex);
+				}
+			});
+
+		} catch (Throwable o_O) {
+			complete(key, future, o_O);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Fails the given future and unregisters it, so that callers waiting for it are released and later requests are
+	 * issued again.
+	 */
+	private void complete(String key, SettableListenableFuture<ResponseEntity<String>> future, Throwable failure) {
+
+		inFlight.remove(key, future);
+		future.setException(failure);
+	}
+
+	private static String getKey(URI uri, HttpEntity<?> request) {
+		return uri.toString().concat(" ").concat(request.getHeaders().toString());
+	}
+}
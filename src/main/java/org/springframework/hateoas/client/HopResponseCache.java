@@ -0,0 +1,395 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.springframework.http.HttpMethod.*;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestOperations;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * A bounded cache for the responses of the intermediate hops of {@link Traverson} traversals, keyed by URI and the
+ * media types accepted. Responses are served from the cache as long as they're fresh according to the
+ * {@code max-age} directive of their {@code Cache-Control} header. Stale responses carrying an {@code ETag} or
+ * {@code Last-Modified} header are revalidated using a conditional request, so that the cached body can be reused if
+ * the server answers with {@code 304 Not Modified}. Responses marked as {@code no-store} are never cached. Once full,
+ * the least recently used entries are evicted.
+ * <p>
+ * Other request headers than {@code Accept} are not considered part of the key, so the cache should not be shared by
+ * traversals that see different representations of the same resource, e.g. due to different credentials.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see Traverson#setHopResponseCache(HopResponseCache)
+ */
+public final class HopResponseCache {
+
+	private final Map<String, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong revalidations = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Creates a new {@link HopResponseCache} holding at most the given number of responses.
+	 *
+	 * @param maxSize must be greater than zero.
+	 */
+	public HopResponseCache(final int maxSize) {
+
+		Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 8011947475962394451L;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+
+				if (size() <= maxSize) {
+					return false;
+				}
+
+				evictions.incrementAndGet();
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Returns the number of hops served from the cache without issuing a request.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of hops that required the full representation to be fetched.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of hops for which a conditional request confirmed the cached representation to be still valid.
+	 *
+	 * @return
+	 */
+	public long getRevalidationCount() {
+		return revalidations.get();
+	}
+
+	/**
+	 * Returns the number of entries removed from the cache because it was full.
+	 *
+	 * @return
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	/**
+	 * Returns the number of responses currently held in the cache.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all entries from the cache and resets the statistics.
+	 */
+	public void clear() {
+
+		synchronized (this) {
+			entries.clear();
+		}
+
+		hits.set(0);
+		misses.set(0);
+		revalidations.set(0);
+		evictions.set(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("HopResponseCache(size=%s, hits=%s, misses=%s, revalidations=%s, evictions=%s)", size(),
+				getHitCount(), getMissCount(), getRevalidationCount(), getEvictionCount());
+	}
+
+	/**
+	 * Returns the response for a {@code GET} request to the given {@link URI}, either from the cache or by issuing the
+	 * request, conditionally if a stale response with validators is cached, through the given {@link RestOperations}.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @return
+	 */
+	ResponseEntity<String> exchange(URI uri, HttpEntity<?> request, RestOperations operations) {
+
+		String key = getKey(uri, request.getHeaders());
+		Entry entry = get(key);
+
+		if (entry != null && entry.isFresh()) {
+
+			hits.incrementAndGet();
+			return entry.response;
+		}
+
+		return update(key, entry, operations.exchange(uri, GET, withValidators(request, entry), String.class));
+	}
+
+	/**
+	 * Returns the response for a {@code GET} request to the given {@link URI}, either from the cache or by issuing the
+	 * request, conditionally if a stale response with validators is cached, through the given
+	 * {@link AsyncRestOperations}.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @return
+	 */
+	ListenableFuture<ResponseEntity<String>> exchange(URI uri, HttpEntity<?> request, AsyncRestOperations operations) {
+
+		final String key = getKey(uri, request.getHeaders());
+		final Entry entry = get(key);
+
+		if (entry != null && entry.isFresh()) {
+
+			hits.incrementAndGet();
+
+			SettableListenableFuture<ResponseEntity<String>> result = new SettableListenableFuture<ResponseEntity<String>>();
+			result.set(entry.response);
+
+			return result;
+		}
+
+		ListenableFuture<ResponseEntity<String>> response = operations.exchange(uri, GET, withValidators(request, entry),
+				String.class);
+
+		return new ListenableFutureAdapter<ResponseEntity<String>, ResponseEntity<String>>(response) {
+
+			@Override
+			protected ResponseEntity<String> adapt(ResponseEntity<String> response) {
+				return update(key, entry, response);
+			}
+		};
+	}
+
+	private synchronized Entry get(String key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Updates the cache with the given response received for a request issued based on the given previous {@link Entry}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param previous the {@link Entry} the request was issued for, can be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 * @return the response to use, i.e. the cached one if the server indicated it's still valid.
+	 */
+	private ResponseEntity<String> update(String key, Entry previous, ResponseEntity<String> response) {
+
+		if (previous != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+
+			revalidations.incrementAndGet();
+			put(key, previous.revalidate(response.getHeaders()));
+
+			return previous.response;
+		}
+
+		misses.incrementAndGet();
+
+		put(key, response.getStatusCode() == HttpStatus.OK ? Entry.of(response) : null);
+
+		return response;
+	}
+
+	private synchronized void put(String key, Entry entry) {
+
+		if (entry == null) {
+			entries.remove(key);
+		} else {
+			entries.put(key, entry);
+		}
+	}
+
+	private static String getKey(URI uri, HttpHeaders headers) {
+		return uri.toString().concat(" ").concat(MediaType.toString(headers.getAccept()));
+	}
+
+	private static HttpEntity<?> withValidators(HttpEntity<?> request, Entry entry) {
+
+		if (entry == null) {
+			return request;
+		}
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.putAll(request.getHeaders());
+
+		if (entry.etag != null) {
+			headers.setIfNoneMatch(entry.etag);
+		}
+
+		if (entry.lastModified != -1) {
+			headers.setIfModifiedSince(entry.lastModified);
+		}
+
+		return new HttpEntity<Void>(headers);
+	}
+
+	/**
+	 * A cached response along with its validators and the point in time it becomes stale.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Entry {
+
+		private final ResponseEntity<String> response;
+		private final String etag;
+		private final long lastModified;
+		private final long expires;
+
+		private Entry(ResponseEntity<String> response, long expires) {
+
+			this.response = response;
+			this.etag = response.getHeaders().getETag();
+			this.lastModified = response.getHeaders().getLastModified();
+			this.expires = expires;
+		}
+
+		/**
+		 * Creates a new {@link Entry} for the given response or returns {@literal null} if the response must not or
+		 * need not be cached.
+		 *
+		 * @param response must not be {@literal null}.
+		 * @return
+		 */
+		static Entry of(ResponseEntity<String> response) {
+
+			HttpHeaders headers = response.getHeaders();
+			long expires = getExpiration(headers, headers);
+
+			if (expires == Long.MIN_VALUE) {
+				return null;
+			}
+
+			Entry entry = new Entry(response, expires);
+			boolean hasValidators = entry.etag != null || entry.lastModified != -1;
+
+			return hasValidators || entry.isFresh() ? entry : null;
+		}
+
+		/**
+		 * Returns a new {@link Entry} for the cached response with the freshness updated from the given headers of a
+		 * {@code 304 Not Modified} response.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @return
+		 */
+		Entry revalidate(HttpHeaders headers) {
+
+			long expires = getExpiration(headers, response.getHeaders());
+			return expires == Long.MIN_VALUE ? null : new Entry(response, expires);
+		}
+
+		boolean isFresh() {
+			return System.currentTimeMillis() < expires;
+		}
+
+		/**
+		 * Returns the point in time a response with the given headers becomes stale, or {@link Long#MIN_VALUE} if it must
+		 * not be stored at all. Falls back to the {@code Cache-Control} header of the given fallback headers.
+		 */
+		private static long getExpiration(HttpHeaders headers, HttpHeaders fallback) {
+
+			String cacheControl = headers.getCacheControl();
+			cacheControl = cacheControl == null ? fallback.getCacheControl() : cacheControl;
+
+			long maxAge = 0;
+
+			if (cacheControl != null) {
+
+				for (String directive : StringUtils.commaDelimitedListToStringArray(cacheControl)) {
+
+					directive = directive.trim().toLowerCase();
+
+					if (directive.equals("no-store")) {
+						return Long.MIN_VALUE;
+					}
+
+					if (directive.equals("no-cache")) {
+						maxAge = Long.MIN_VALUE;
+					} else if (directive.startsWith("max-age=") && maxAge != Long.MIN_VALUE) {
+						maxAge = parseSeconds(directive.substring("max-age=".length()));
+					}
+				}
+			}
+
+			if (maxAge <= 0) {
+				return 0;
+			}
+
+			long age = parseSeconds(headers.getFirst("Age"));
+
+			return System.currentTimeMillis() + Math.max(maxAge - age, 0) * 1000;
+		}
+
+		private static long parseSeconds(String value) {
+
+			if (value == null) {
+				return 0;
+			}
+
+			try {
+				return Math.max(Long.parseLong(StringUtils.trimTrailingCharacter(
+						StringUtils.trimLeadingCharacter(value.trim(), '"'), '"')), 0);
+			} catch (NumberFormatException o_O) {
+				return 0;
+			}
+		}
+	}
+}
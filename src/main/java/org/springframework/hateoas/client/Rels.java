@@ -15,11 +15,23 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StreamUtils;
 
 import com.jayway.jsonpath.JsonPath;
 
@@ -32,6 +44,34 @@ import com.jayway.jsonpath.JsonPath;
  */
 class Rels {
 
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final Method COMPILE_METHOD;
+	private static final Object EMPTY_FILTERS;
+
+	static {
+
+		// Reflective bridging between JsonPath 0.9.x and 1.x, see JsonPathLinkDiscoverer
+		Method compileMethod = null;
+		Object emptyFilters = null;
+
+		for (Method candidate : JsonPath.class.getMethods()) {
+
+			Class<?>[] paramTypes = candidate.getParameterTypes();
+
+			if (candidate.getName().equals("compile") && paramTypes.length == 2 && paramTypes[0].equals(String.class)
+					&& paramTypes[1].isArray()) {
+				compileMethod = candidate;
+				emptyFilters = Array.newInstance(paramTypes[1].getComponentType(), 0);
+				break;
+			}
+		}
+
+		Assert.state(compileMethod != null, "Unexpected JsonPath API - no compile(String, ...) method found");
+
+		COMPILE_METHOD = compileMethod;
+		EMPTY_FILTERS = emptyFilters;
+	}
+
 	/**
 	 * Creates a new {@link Rel} for the given relation name and {@link LinkDiscoverers}.
 	 * 
@@ -61,6 +101,74 @@ class Rels {
 		 * @return
 		 */
 		Link findInResponse(String representation, MediaType mediaType);
+
+		/**
+		 * Returns the link contained in the representation of the given {@link MediaType} read from the given
+		 * {@link InputStream}. UTF-8 encoded representations are parsed straight from the stream, representations declaring
+		 * a different charset are decoded using that charset first.
+		 * 
+		 * @param representation must not be {@literal null}.
+		 * @param mediaType can be {@literal null}.
+		 * @return
+		 * @throws IOException
+		 * @since 0.24
+		 */
+		Link findInResponse(InputStream representation, MediaType mediaType) throws IOException;
+
+		/**
+		 * Returns all links contained in the representation of the given {@link MediaType} read from the given
+		 * {@link InputStream}.
+		 * 
+		 * @param representation must not be {@literal null}.
+		 * @param mediaType can be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @throws IOException
+		 * @since 0.24
+		 */
+		List<Link> findAllInResponse(InputStream representation, MediaType mediaType) throws IOException;
+	}
+
+	/**
+	 * Reads the given JSON path expression from the given {@link InputStream}. UTF-8 encoded representations are parsed
+	 * straight from the stream, representations declaring a different charset in the given {@link MediaType} are decoded
+	 * using that charset first.
+	 * 
+	 * @param representation must not be {@literal null}.
+	 * @param mediaType can be {@literal null}.
+	 * @param jsonPath must not be {@literal null} or empty.
+	 * @return
+	 * @throws IOException
+	 */
+	static <T> T readJsonPath(InputStream representation, MediaType mediaType, String jsonPath) throws IOException {
+
+		JsonPath expression = compile(jsonPath);
+		Charset charset = getCharset(mediaType);
+
+		return UTF_8.equals(charset) ? expression.<T> read(representation)
+				: expression.<T> read(StreamUtils.copyToString(representation, charset));
+	}
+
+	/**
+	 * Compiles the given JSON path expression. Goes through reflection as the signature of
+	 * {@code JsonPath.compile(String, …)} differs between JsonPath 0.9.x and 1.x.
+	 * 
+	 * @param jsonPath must not be {@literal null} or empty.
+	 * @return
+	 */
+	private static JsonPath compile(String jsonPath) {
+		return (JsonPath) ReflectionUtils.invokeMethod(COMPILE_METHOD, null, jsonPath, EMPTY_FILTERS);
+	}
+
+	/**
+	 * Returns the charset declared by the given {@link MediaType} or UTF-8 if none is declared.
+	 * 
+	 * @param mediaType can be {@literal null}.
+	 * @return
+	 */
+	private static Charset getCharset(MediaType mediaType) {
+
+		Charset charset = mediaType == null ? null : mediaType.getCharset();
+		return charset == null ? UTF_8 : charset;
 	}
 
 	/**
@@ -94,6 +202,38 @@ class Rels {
 		 */
 		@Override
 		public Link findInResponse(String response, MediaType mediaType) {
+			return getDiscovererFor(mediaType).findLinkWithRel(rel, response);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Link findInResponse(InputStream representation, MediaType mediaType) throws IOException {
+
+			LinkDiscoverer discoverer = getDiscovererFor(mediaType);
+			Charset charset = getCharset(mediaType);
+
+			return UTF_8.equals(charset) ? discoverer.findLinkWithRel(rel, representation)
+					: discoverer.findLinkWithRel(rel, StreamUtils.copyToString(representation, charset));
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public List<Link> findAllInResponse(InputStream representation, MediaType mediaType) throws IOException {
+
+			LinkDiscoverer discoverer = getDiscovererFor(mediaType);
+			Charset charset = getCharset(mediaType);
+
+			return UTF_8.equals(charset) ? discoverer.findLinksWithRel(rel, representation)
+					: discoverer.findLinksWithRel(rel, StreamUtils.copyToString(representation, charset));
+		}
+
+		private LinkDiscoverer getDiscovererFor(MediaType mediaType) {
 
 			LinkDiscoverer discoverer = discoverers.getLinkDiscovererFor(mediaType);
 
@@ -102,7 +242,7 @@ class Rels {
 						mediaType));
 			}
 
-			return discoverer.findLinkWithRel(rel, response);
+			return discoverer;
 		}
 
 		/*
@@ -147,7 +287,42 @@ class Rels {
 		 */
 		@Override
 		public Link findInResponse(String representation, MediaType mediaType) {
-			return new Link(JsonPath.<Object> read(representation, jsonPath).toString(), rel);
+			return new Link(compile(jsonPath).read(representation).toString(), rel);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Link findInResponse(InputStream representation, MediaType mediaType) throws IOException {
+			return new Link(Rels.<Object> readJsonPath(representation, mediaType, jsonPath).toString(), rel);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public List<Link> findAllInResponse(InputStream representation, MediaType mediaType) throws IOException {
+
+			Object result = readJsonPath(representation, mediaType, jsonPath);
+
+			if (result == null) {
+				return Collections.emptyList();
+			}
+
+			if (!(result instanceof Collection)) {
+				return Collections.singletonList(new Link(result.toString(), rel));
+			}
+
+			List<Link> links = new ArrayList<Link>();
+
+			for (Object element : (Collection<?>) result) {
+				links.add(new Link(element.toString(), rel));
+			}
+
+			return links;
 		}
 	}
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.springframework.http.HttpMethod.*;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestOperations;
+
+/**
+ * Lazy {@link Iterator} over the content of {@link Resources} spread across multiple pages linked by {@code next}
+ * links. Pages are requested asynchronously: once a page has arrived, the one following it is requested right away as
+ * long as less than the configured number of pages is waiting to be consumed. Thus downloading the next pages overlaps
+ * with the consumption of the current one. A prefetch of {@literal 0} requests every page only once it is needed.
+ * <p>
+ * Call {@link #close()} to stop iterating before the last page has been reached, which cancels the requests still in
+ * flight and discards the pages prefetched.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see Traverson.TraversalBuilder#toIterator(ParameterizedTypeReference, int)
+ */
+public final class ResourcesIterator<T> implements Iterator<T>, Closeable {
+
+	private final HttpEntity<?> request;
+	private final AsyncRestOperations operations;
+	private final ParameterizedTypeReference<? extends Resources<T>> type;
+	private final int prefetch;
+
+	private final LinkedList<SettableListenableFuture<Resources<T>>> pages;
+
+	private ListenableFuture<?> inFlight;
+	private URI deferred;
+	private boolean closed;
+	private long fetched;
+
+	private Iterator<T> current = Collections.<T> emptyList().iterator();
+
+	/**
+	 * Creates a new {@link ResourcesIterator} starting with the page at the given {@link URI}, which is requested right
+	 * away.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param prefetch the number of pages to request ahead of the one being consumed, must not be negative.
+	 */
+	ResourcesIterator(URI uri, HttpEntity<?> request, AsyncRestOperations operations,
+			ParameterizedTypeReference<? extends Resources<T>> type, int prefetch) {
+
+		Assert.notNull(uri, "URI must not be null!");
+		Assert.notNull(request, "Request must not be null!");
+		Assert.notNull(operations, "AsyncRestOperations must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+		Assert.isTrue(prefetch >= 0, "Prefetch must not be negative!");
+
+		this.request = request;
+		this.operations = operations;
+		this.type = type;
+		this.prefetch = prefetch;
+		this.pages = new LinkedList<SettableListenableFuture<Resources<T>>>();
+
+		synchronized (this) {
+			fetch(uri, type);
+		}
+	}
+
+	/**
+	 * Returns the number of pages requested so far.
+	 *
+	 * @return
+	 */
+	public synchronized long getFetchedPageCount() {
+		return fetched;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!current.hasNext()) {
+
+			SettableListenableFuture<Resources<T>> page;
+
+			synchronized (this) {
+
+				if (closed) {
+					return false;
+				}
+
+				// Request the next page on demand if it hasn't been prefetched
+				if (pages.isEmpty() && deferred != null) {
+					fetchDeferred();
+				}
+
+				page = pages.poll();
+
+				if (page == null) {
+					return false;
+				}
+
+				fillAhead();
+			}
+
+			this.current = Futures.await(page, "the next page").getContent().iterator();
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return current.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Stops the iteration, cancels the request in flight and discards all pages prefetched.
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public synchronized void close() {
+
+		if (closed) {
+			return;
+		}
+
+		this.closed = true;
+		this.deferred = null;
+		this.current = Collections.<T> emptyList().iterator();
+
+		if (inFlight != null) {
+			inFlight.cancel(true);
+		}
+
+		for (SettableListenableFuture<Resources<T>> page : pages) {
+			page.cancel(true);
+		}
+
+		pages.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		return String.format("ResourcesIterator(fetched=%s, prefetched=%s, closed=%s)", fetched, pages.size(), closed);
+	}
+
+	/**
+	 * Requests the page at the given {@link URI} and registers it as the last one to be consumed. Once the page has
+	 * arrived, the one it links to is requested as well if the prefetch allows, or deferred until it's needed.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 */
+	private <R extends Resources<T>> void fetch(URI uri, ParameterizedTypeReference<R> type) {
+
+		final SettableListenableFuture<Resources<T>> page = new SettableListenableFuture<Resources<T>>();
+		pages.add(page);
+		fetched++;
+
+		ListenableFuture<ResponseEntity<R>> response;
+
+		try {
+			response = operations.exchange(uri, GET, request, type);
+		} catch (RuntimeException o_O) {
+			page.setException(o_O);
+			return;
+		}
+
+		this.inFlight = response;
+
+		response.addCallback(new ListenableFutureCallback<ResponseEntity<R>>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.util.concurrent.SuccessCallback#onSuccess(java.lang.Object)
+			 */
+			@Override
+			public void onSuccess(ResponseEntity<R> result) {
+
+				Resources<T> resources = result.getBody();
+
+				synchronized (ResourcesIterator.this) {
+
+					if (!closed && resources != null) {
+
+						Link next = resources.getLink(Link.REL_NEXT);
+						deferred = next == null ? null : new UriTemplate(next.getHref()).expand();
+
+						fillAhead();
+					}
+				}
+
+				// Only publish the page after its successor was registered, so that consumers see a consistent state
+				if (resources == null) {
+					page.setException(new IllegalStateException("Received page without content!"));
+				} else {
+					page.set(resources);
+				}
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.util.concurrent.FailureCallback#onFailure(java.lang.Throwable)
+			 */
+			@Override
+			public void onFailure(Throwable ex) {
+				page.setException(ex);
+			}
+		});
+	}
+
+	/**
+	 * Requests the deferred page if less pages than the configured prefetch are waiting to be consumed. As a page's
+	 * successor is only known once the page has arrived, there's never more than a single request in flight.
+	 */
+	private void fillAhead() {
+
+		if (deferred != null && pages.size() < prefetch) {
+			fetchDeferred();
+		}
+	}
+
+	private void fetchDeferred() {
+
+		URI uri = deferred;
+		this.deferred = null;
+
+		fetch(uri, type);
+	}
+}
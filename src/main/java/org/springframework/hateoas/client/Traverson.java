@@ -17,6 +17,8 @@ package org.springframework.hateoas.client;
 
 import static org.springframework.http.HttpMethod.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -25,12 +27,16 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.client.Rels.Rel;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
@@ -39,17 +45,30 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRequestCallback;
+import org.springframework.web.client.AsyncRestOperations;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.JsonPath;
 
 /**
  * Component to ease traversing hypermedia APIs by following links with relation types. Highly inspired by the equally
@@ -65,6 +84,16 @@ import com.jayway.jsonpath.JsonPath;
 public class Traverson {
 
 	private static final LinkDiscoverers DEFAULT_LINK_DISCOVERERS;
+	private static final int DEFAULT_FAN_OUT_PARALLELISM = 4;
+	private static final int DEFAULT_ASYNC_POOL_SIZE = 8;
+	private static final ObjectMapper HAL_OBJECT_MAPPER = createHalObjectMapper();
+
+	private static final ConcurrentMap<List<MediaType>, RestOperations> DEFAULT_TEMPLATES = //
+			new ConcurrentHashMap<List<MediaType>, RestOperations>();
+	private static final ConcurrentMap<List<MediaType>, AsyncRestOperations> DEFAULT_ASYNC_TEMPLATES = //
+			new ConcurrentHashMap<List<MediaType>, AsyncRestOperations>();
+
+	private static ThreadPoolTaskExecutor defaultAsyncExecutor;
 
 	static {
 		LinkDiscoverer discoverer = new HalLinkDiscoverer();
@@ -75,7 +104,10 @@ public class Traverson {
 	private final List<MediaType> mediaTypes;
 
 	private RestOperations operations;
+	private AsyncRestOperations asyncOperations;
 	private LinkDiscoverers discoverers;
+	private HopResponseCache hopResponseCache;
+	private HopRequestCoalescer hopRequestCoalescer;
 
 	/**
 	 * Creates a new {@link Traverson} interacting with the given base URI and using the given {@link MediaType}s to
@@ -118,12 +150,27 @@ public class Traverson {
 	}
 
 	/**
-	 * Returns all {@link HttpMessageConverter}s that will be registered for the given {@link MediaType}s by default.
+	 * Returns all {@link HttpMessageConverter}s that will be registered for the given {@link MediaType}s by default. The
+	 * converters returned are independent of the ones used by {@link Traverson} instances, so they can be customized
+	 * freely.
 	 * 
 	 * @param mediaTypes must not be {@literal null}.
 	 * @return
 	 */
 	public static List<HttpMessageConverter<?>> getDefaultMessageConverters(List<MediaType> mediaTypes) {
+		return createMessageConverters(mediaTypes, HAL_OBJECT_MAPPER.copy());
+	}
+
+	/**
+	 * Creates the default {@link HttpMessageConverter}s for the given {@link MediaType}s, using the given
+	 * {@link ObjectMapper} for HAL.
+	 * 
+	 * @param mediaTypes must not be {@literal null}.
+	 * @param halObjectMapper must not be {@literal null}.
+	 * @return
+	 */
+	private static List<HttpMessageConverter<?>> createMessageConverters(List<MediaType> mediaTypes,
+			ObjectMapper halObjectMapper) {
 
 		Assert.notNull(mediaTypes, "Media types must not be null!");
 
@@ -131,39 +178,109 @@ public class Traverson {
 		converters.add(new StringHttpMessageConverter(Charset.forName("UTF-8")));
 
 		if (mediaTypes.contains(MediaTypes.HAL_JSON)) {
-			converters.add(getHalConverter());
+			converters.add(getHalConverter(halObjectMapper));
 		}
 
 		return converters;
 	}
 
+	/**
+	 * Returns the default {@link RestOperations} for the given {@link MediaType}s. The templates are shared by all
+	 * {@link Traverson} instances using the same {@link MediaType}s, as they're thread-safe and not exposed for
+	 * reconfiguration. Their HAL converters share a single {@link ObjectMapper}, so that its serializer and deserializer
+	 * caches are only warmed up once.
+	 * 
+	 * @param mediaTypes must not be {@literal null}.
+	 * @return
+	 */
 	private static final RestOperations createDefaultTemplate(List<MediaType> mediaTypes) {
 
-		RestTemplate template = new RestTemplate();
-		template.setMessageConverters(getDefaultMessageConverters(mediaTypes));
+		List<MediaType> key = new ArrayList<MediaType>(mediaTypes);
+		RestOperations template = DEFAULT_TEMPLATES.get(key);
+
+		if (template != null) {
+			return template;
+		}
+
+		template = new RestTemplate(createMessageConverters(mediaTypes, HAL_OBJECT_MAPPER));
+		RestOperations existing = DEFAULT_TEMPLATES.putIfAbsent(key, template);
 
-		return template;
+		return existing == null ? template : existing;
 	}
 
 	/**
-	 * Creates a new {@link HttpMessageConverter} to support HAL.
+	 * Returns the default {@link AsyncRestOperations} for the given {@link MediaType}s, shared the same way as the ones
+	 * returned by {@link #createDefaultTemplate(List)}.
 	 * 
+	 * @param mediaTypes must not be {@literal null}.
 	 * @return
 	 */
-	private static final HttpMessageConverter<?> getHalConverter() {
+	private static final AsyncRestOperations createDefaultAsyncTemplate(List<MediaType> mediaTypes) {
 
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new Jackson2HalModule());
-		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		List<MediaType> key = new ArrayList<MediaType>(mediaTypes);
+		AsyncRestOperations template = DEFAULT_ASYNC_TEMPLATES.get(key);
+
+		if (template != null) {
+			return template;
+		}
+
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setTaskExecutor(getDefaultAsyncExecutor());
 
-		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+		template = new AsyncRestTemplate(requestFactory, new RestTemplate(createMessageConverters(mediaTypes, HAL_OBJECT_MAPPER)));
+		AsyncRestOperations existing = DEFAULT_ASYNC_TEMPLATES.putIfAbsent(key, template);
 
-		converter.setObjectMapper(mapper);
+		return existing == null ? template : existing;
+	}
+
+	/**
+	 * Returns the executor shared by all default {@link AsyncRestOperations}. It issues the blocking requests on at most
+	 * {@value #DEFAULT_ASYNC_POOL_SIZE} daemon threads and queues further ones, so that traversals fanning out or
+	 * prefetching pages can't spawn an unbounded number of threads.
+	 * 
+	 * @return
+	 */
+	private static synchronized ThreadPoolTaskExecutor getDefaultAsyncExecutor() {
+
+		if (defaultAsyncExecutor == null) {
+
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(DEFAULT_ASYNC_POOL_SIZE);
+			executor.setMaxPoolSize(DEFAULT_ASYNC_POOL_SIZE);
+			executor.setAllowCoreThreadTimeOut(true);
+			executor.setDaemon(true);
+			executor.setThreadNamePrefix("traverson-");
+			executor.initialize();
+
+			defaultAsyncExecutor = executor;
+		}
+
+		return defaultAsyncExecutor;
+	}
+
+	/**
+	 * Creates a new {@link HttpMessageConverter} to support HAL using the given {@link ObjectMapper}.
+	 * 
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	private static final HttpMessageConverter<?> getHalConverter(ObjectMapper mapper) {
+
+		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(mapper);
 		converter.setSupportedMediaTypes(Arrays.asList(MediaTypes.HAL_JSON));
 
 		return converter;
 	}
 
+	private static final ObjectMapper createHalObjectMapper() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		return mapper;
+	}
+
 	/**
 	 * Configures the {@link RestOperations} to use. If {@literal null} is provided a default {@link RestTemplate} will be
 	 * used.
@@ -177,6 +294,53 @@ public class Traverson {
 		return this;
 	}
 
+	/**
+	 * Configures the {@link AsyncRestOperations} to use for traversals executed via {@link TraversalBuilder#async()}. If
+	 * {@literal null} is provided a default {@link AsyncRestTemplate} will be used. Note that the default one issues
+	 * blocking requests on a small pool of threads shared by all {@link Traverson} instances and queues requests
+	 * exceeding it. To actually not block any threads, configure an
+	 * {@link AsyncRestTemplate} with a non-blocking request factory, e.g. {@code Netty4ClientHttpRequestFactory}.
+	 * 
+	 * @param operations can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	public synchronized Traverson setAsyncRestOperations(AsyncRestOperations operations) {
+
+		this.asyncOperations = operations;
+		return this;
+	}
+
+	/**
+	 * Configures a {@link HopResponseCache} to keep the responses of the intermediate hops of traversals, so that
+	 * resources that don't change often, like the root resource, aren't fetched over and over again. Caching is disabled
+	 * by default and can be disabled again by providing {@literal null}.
+	 * 
+	 * @param cache can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	public Traverson setHopResponseCache(HopResponseCache cache) {
+
+		this.hopResponseCache = cache;
+		return this;
+	}
+
+	/**
+	 * Configures a {@link HopRequestCoalescer} to let concurrent traversals share identical requests for intermediate hops
+	 * that are in flight at the same time. Coalescing is disabled by default and can be disabled again by providing
+	 * {@literal null}.
+	 * 
+	 * @param coalescer can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	public Traverson setHopRequestCoalescer(HopRequestCoalescer coalescer) {
+
+		this.hopRequestCoalescer = coalescer;
+		return this;
+	}
+
 	/**
 	 * Sets the {@link LinkDiscoverers} to use. By default a single {@link HalLinkDiscoverer} is registered. If
 	 * {@literal null} is provided the default is reapplied.
@@ -213,6 +377,102 @@ public class Traverson {
 		return new TraversalBuilder().follow(hop);
 	}
 
+	private synchronized AsyncRestOperations getAsyncOperations() {
+
+		if (asyncOperations == null) {
+			this.asyncOperations = createDefaultAsyncTemplate(mediaTypes);
+		}
+
+		return asyncOperations;
+	}
+
+	private ResponseEntity<String> exchangeHop(final URI uri, final HttpEntity<?> request) {
+
+		HopRequestCoalescer coalescer = this.hopRequestCoalescer;
+
+		if (coalescer == null) {
+			return doExchangeHop(uri, request);
+		}
+
+		return coalescer.exchange(uri, request, new Callable<ResponseEntity<String>>() {
+
+			@Override
+			public ResponseEntity<String> call() {
+				return doExchangeHop(uri, request);
+			}
+		});
+	}
+
+	private ResponseEntity<String> doExchangeHop(URI uri, HttpEntity<?> request) {
+
+		HopResponseCache cache = this.hopResponseCache;
+
+		return cache == null ? operations.exchange(uri, GET, request, String.class)
+				: cache.exchange(uri, request, operations);
+	}
+
+	private ListenableFuture<ResponseEntity<String>> exchangeHopAsync(final URI uri, final HttpEntity<?> request) {
+
+		HopRequestCoalescer coalescer = this.hopRequestCoalescer;
+
+		if (coalescer == null) {
+			return doExchangeHopAsync(uri, request);
+		}
+
+		return coalescer.exchangeAsync(uri, request, new Callable<ListenableFuture<ResponseEntity<String>>>() {
+
+			@Override
+			public ListenableFuture<ResponseEntity<String>> call() {
+				return doExchangeHopAsync(uri, request);
+			}
+		});
+	}
+
+	private ListenableFuture<ResponseEntity<String>> doExchangeHopAsync(URI uri, HttpEntity<?> request) {
+
+		HopResponseCache cache = this.hopResponseCache;
+
+		return cache == null ? getAsyncOperations().exchange(uri, GET, request, String.class)
+				: cache.exchange(uri, request, getAsyncOperations());
+	}
+
+	/**
+	 * Issues the request for a single hop and returns the {@link Link} for the given {@link Rel} contained in the
+	 * response. Unless responses are cached or concurrent requests coalesced, both of which need the body retained, the
+	 * link is discovered straight from the response {@link InputStream} without copying the body into a {@link String}.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param rel must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Link findLinkInHop(URI uri, HttpEntity<?> request, Rel rel) {
+
+		if (hopRequestCoalescer == null && hopResponseCache == null) {
+			return operations.execute(uri, GET, new HeadersRequestCallback(request), new LinkExtractor(uri, rel));
+		}
+
+		ResponseEntity<String> response = exchangeHop(uri, request);
+
+		return getRequiredLink(rel.findInResponse(response.getBody(), response.getHeaders().getContentType()), rel, uri);
+	}
+
+	private ListenableFuture<Link> findLinkInHopAsync(final URI uri, HttpEntity<?> request, final Rel rel) {
+
+		if (hopRequestCoalescer == null && hopResponseCache == null) {
+			return getAsyncOperations().execute(uri, GET, new HeadersRequestCallback(request), new LinkExtractor(uri, rel));
+		}
+
+		return new ListenableFutureAdapter<Link, ResponseEntity<String>>(exchangeHopAsync(uri, request)) {
+
+			@Override
+			protected Link adapt(ResponseEntity<String> response) {
+				return getRequiredLink(rel.findInResponse(response.getBody(), response.getHeaders().getContentType()), rel,
+						uri);
+			}
+		};
+	}
+
 	private HttpEntity<?> prepareRequest(HttpHeaders headers) {
 
 		HttpHeaders toSend = new HttpHeaders();
@@ -236,7 +496,15 @@ public class Traverson {
 		private Map<String, Object> templateParameters = new HashMap<String, Object>();
 		private HttpHeaders headers = new HttpHeaders();
 
-		private TraversalBuilder() {}
+		private final String startUri;
+
+		private TraversalBuilder() {
+			this(baseUri.toString());
+		}
+
+		private TraversalBuilder(String startUri) {
+			this.startUri = startUri;
+		}
 
 		/**
 		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
@@ -333,9 +601,8 @@ public class Traverson {
 
 			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
 
-			String forObject = operations.exchange(traverseToExpandedFinalUrl(), GET, prepareRequest(headers), String.class)
-					.getBody();
-			return JsonPath.read(forObject, jsonPath);
+			return operations.execute(traverseToExpandedFinalUrl(), GET, new HeadersRequestCallback(prepareRequest(headers)),
+					new JsonPathExtractor<T>(jsonPath));
 		}
 
 		/**
@@ -350,6 +617,69 @@ public class Traverson {
 			return operations.exchange(traverseToExpandedFinalUrl(), GET, prepareRequest(headers), type);
 		}
 
+		/**
+		 * Executes the traversal and returns a lazy {@link ResourcesIterator} over the content of the final
+		 * {@link Resources} and the ones of all pages following their {@code next} links. The page following the one
+		 * being consumed is prefetched using the configured {@link AsyncRestOperations}.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #toIterator(ParameterizedTypeReference, int)
+		 * @since 0.24
+		 */
+		public <T> ResourcesIterator<T> toIterator(ParameterizedTypeReference<? extends Resources<T>> type) {
+			return toIterator(type, 1);
+		}
+
+		/**
+		 * Executes the traversal and returns a lazy {@link ResourcesIterator} over the content of the final
+		 * {@link Resources} and the ones of all pages following their {@code next} links. Up to the given number of pages
+		 * is requested ahead of the one being consumed using the configured {@link AsyncRestOperations}. Close the
+		 * {@link ResourcesIterator} to stop before the last page has been reached.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param prefetch the number of pages to request ahead, must not be negative.
+		 * @return
+		 * @since 0.24
+		 */
+		public <T> ResourcesIterator<T> toIterator(ParameterizedTypeReference<? extends Resources<T>> type,
+				int prefetch) {
+
+			Assert.notNull(type, "Target type must not be null!");
+			Assert.isTrue(prefetch >= 0, "Prefetch must not be negative!");
+
+			return new ResourcesIterator<T>(traverseToExpandedFinalUrl(), prepareRequest(headers), getAsyncOperations(),
+					type, prefetch);
+		}
+
+		/**
+		 * Fans out the traversal to all links found for the given rel in the representation the rels configured so far
+		 * lead to, e.g. the links of all items embedded in a collection resource using a JSON path expression like
+		 * {@code $._embedded.orders[*]._links.self.href}. The rels and the terminal operation configured on the returned
+		 * {@link FanOutTraversal} are then applied to each of these links concurrently.
+		 * 
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 * @since 0.24
+		 */
+		public FanOutTraversal fanOut(String rel) {
+
+			Assert.hasText(rel, "Rel must not be null or empty!");
+			return new FanOutTraversal(rel);
+		}
+
+		/**
+		 * Returns an {@link AsyncTraversal} to execute the traversal configured so far without blocking the calling thread
+		 * using the configured {@link AsyncRestOperations}.
+		 * 
+		 * @return
+		 * @see Traverson#setAsyncRestOperations(AsyncRestOperations)
+		 * @since 0.24
+		 */
+		public AsyncTraversal async() {
+			return new AsyncTraversal();
+		}
+
 		/**
 		 * Returns the {@link Link} found for the last rel in the rels configured to follow. Will expand the final
 		 * {@link Link} using the
@@ -381,13 +711,13 @@ public class Traverson {
 
 		private String traverseToFinalUrl() {
 
-			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
+			String uri = getAndFindLinkWithRel(startUri, rels.iterator());
 			return new UriTemplate(uri).toString();
 		}
 
 		private URI traverseToExpandedFinalUrl() {
 
-			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
+			String uri = getAndFindLinkWithRel(startUri, rels.iterator());
 			return new UriTemplate(uri).expand(templateParameters);
 		}
 
@@ -399,29 +729,592 @@ public class Traverson {
 
 			HttpEntity<?> request = prepareRequest(headers);
 			UriTemplate template = new UriTemplate(uri);
+			Hop hop = rels.next();
 
-			ResponseEntity<String> responseEntity = operations.exchange(template.expand(), GET, request, String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
-			String responseBody = responseEntity.getBody();
-
-			Hop thisHop = rels.next();
+			Link link = findLinkInHop(template.expand(), request, Rels.getRelFor(hop.getRel(), discoverers));
 
-			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
-			Link link = rel.findInResponse(responseBody, contentType);
+			return getAndFindLinkWithRel(getNextUri(link, hop), rels);
+		}
 
-			if (link == null) {
-				throw new IllegalStateException(
-						String.format("Expected to find link with rel '%s' in response %s!", rel, responseBody));
-			}
+		/**
+		 * Returns the URI to follow for the given {@link Hop} from the given {@link Link} found in its response.
+		 * 
+		 * @param link must not be {@literal null}.
+		 * @param thisHop must not be {@literal null}.
+		 * @return
+		 */
+		private String getNextUri(Link link, Hop thisHop) {
 
 			/**
 			 * Don't expand if the parameters are empty
 			 */
 			if (!thisHop.hasParameters()) {
-				return getAndFindLinkWithRel(link.getHref(), rels);
+				return link.getHref();
 			} else {
-				return getAndFindLinkWithRel(link.expand(thisHop.getMergedParameters(templateParameters)).getHref(), rels);
+				return link.expand(thisHop.getMergedParameters(templateParameters)).getHref();
+			}
+		}
+
+		/**
+		 * Sub-traversal applied to each of the links found for a rel by {@link TraversalBuilder#fanOut(String)}. The
+		 * sub-traversals use the {@link AsyncRestOperations} configured and run concurrently, with at most the configured
+		 * parallelism in flight at a time. The terminal operations mirror the ones of {@link TraversalBuilder} but block
+		 * until all sub-traversals have completed and return their results in the order the links were found in. The
+		 * first failing sub-traversal fails the entire fan-out.
+		 * 
+		 * @author Oliver Gierke
+		 * @since 0.24
+		 */
+		public class FanOutTraversal {
+
+			private final String rel;
+			private final List<Hop> hops = new ArrayList<Hop>();
+			private int parallelism = DEFAULT_FAN_OUT_PARALLELISM;
+
+			private FanOutTraversal(String rel) {
+				this.rel = rel;
+			}
+
+			/**
+			 * Follows the given rels one by one from each of the links fanned out to.
+			 * 
+			 * @param rels must not be {@literal null}.
+			 * @return
+			 */
+			public FanOutTraversal follow(String... rels) {
+
+				Assert.notNull(rels, "Rels must not be null!");
+
+				for (String rel : rels) {
+					this.hops.add(Hop.rel(rel));
+				}
+
+				return this;
 			}
+
+			/**
+			 * Follows the given {@link Hop} from each of the links fanned out to.
+			 * 
+			 * @param hop must not be {@literal null}.
+			 * @return
+			 */
+			public FanOutTraversal follow(Hop hop) {
+
+				Assert.notNull(hop, "Hop must not be null!");
+
+				this.hops.add(hop);
+
+				return this;
+			}
+
+			/**
+			 * Configures the maximum number of sub-traversals to run concurrently. Defaults to
+			 * {@literal 4}.
+			 * 
+			 * @param parallelism must be greater than zero.
+			 * @return
+			 */
+			public FanOutTraversal withParallelism(int parallelism) {
+
+				Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+				this.parallelism = parallelism;
+				return this;
+			}
+
+			/**
+			 * Executes the sub-traversals and marshals their final responses into objects of the given type.
+			 * 
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> List<T> toObject(final Class<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return execute(new SubTraversal<T>() {
+
+					@Override
+					public ListenableFuture<T> execute(TraversalBuilder builder) {
+						return builder.async().toObject(type);
+					}
+				});
+			}
+
+			/**
+			 * Executes the sub-traversals and marshals their final responses into objects of the given
+			 * {@link ParameterizedTypeReference}.
+			 * 
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> List<T> toObject(final ParameterizedTypeReference<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return execute(new SubTraversal<T>() {
+
+					@Override
+					public ListenableFuture<T> execute(TraversalBuilder builder) {
+						return builder.async().toObject(type);
+					}
+				});
+			}
+
+			/**
+			 * Executes the sub-traversals and returns the results of the given JSON Path expression evaluated against their
+			 * final representations.
+			 * 
+			 * @param jsonPath must not be {@literal null} or empty.
+			 * @return
+			 */
+			public <T> List<T> toObject(final String jsonPath) {
+
+				Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+				return execute(new SubTraversal<T>() {
+
+					@Override
+					public ListenableFuture<T> execute(TraversalBuilder builder) {
+						return builder.async().toObject(jsonPath);
+					}
+				});
+			}
+
+			/**
+			 * Returns the {@link Link}s found for the last rel to follow by the sub-traversals, expanded using the
+			 * configured template parameters.
+			 * 
+			 * @return
+			 */
+			public List<Link> asLink() {
+
+				return execute(new SubTraversal<Link>() {
+
+					@Override
+					public ListenableFuture<Link> execute(TraversalBuilder builder) {
+						return builder.async().asLink();
+					}
+				});
+			}
+
+			private <T> List<T> execute(final SubTraversal<T> traversal) {
+
+				URI uri = traverseToExpandedFinalUrl();
+				Rel rel = Rels.getRelFor(this.rel, discoverers);
+
+				List<Link> links = operations.execute(uri, GET, new HeadersRequestCallback(prepareRequest(headers)),
+						new LinksExtractor(rel));
+				List<Callable<ListenableFuture<T>>> tasks = new ArrayList<Callable<ListenableFuture<T>>>(links.size());
+
+				for (final Link link : links) {
+
+					tasks.add(new Callable<ListenableFuture<T>>() {
+
+						@Override
+						public ListenableFuture<T> call() {
+							return traversal.execute(createSubTraversal(link));
+						}
+					});
+				}
+
+				return FanOut.execute(tasks, parallelism);
+			}
+
+			private TraversalBuilder createSubTraversal(Link link) {
+
+				TraversalBuilder builder = new TraversalBuilder(link.getHref());
+
+				builder.rels.addAll(hops);
+				builder.templateParameters = templateParameters;
+				builder.headers = headers;
+
+				return builder;
+			}
+		}
+
+		/**
+		 * Executes the traversal configured in the {@link TraversalBuilder} asynchronously. Each hop is issued once the
+		 * response of the previous one has arrived, so no thread is blocked waiting for the traversal to complete. The
+		 * terminal operations mirror the ones of {@link TraversalBuilder} but return {@link ListenableFuture}s. Failures,
+		 * e.g. a link not found in a response, are reported through the returned {@link ListenableFuture}.
+		 * 
+		 * @author Oliver Gierke
+		 * @since 0.24
+		 */
+		public class AsyncTraversal {
+
+			private AsyncTraversal() {}
+
+			/**
+			 * Executes the traversal and marshals the final response into an object of the given type.
+			 * 
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> ListenableFuture<T> toObject(Class<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+				return getBody(exchange(type, null));
+			}
+
+			/**
+			 * Executes the traversal and marshals the final response into an object of the given
+			 * {@link ParameterizedTypeReference}.
+			 * 
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> ListenableFuture<T> toObject(ParameterizedTypeReference<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+				return getBody(exchange(null, type));
+			}
+
+			/**
+			 * Executes the traversal and returns the result of the given JSON Path expression evaluated against the final
+			 * representation.
+			 * 
+			 * @param jsonPath must not be {@literal null} or empty.
+			 * @return
+			 */
+			public <T> ListenableFuture<T> toObject(final String jsonPath) {
+
+				Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+				final SettableListenableFuture<T> result = new SettableListenableFuture<T>();
+
+				traverseToExpandedFinalUrl().addCallback(new ForwardingCallback<URI, T>(result) {
+
+					@Override
+					protected void doOnSuccess(URI uri) {
+
+						HttpEntity<?> request = prepareRequest(headers);
+
+						forward(getAsyncOperations().execute(uri, GET, new HeadersRequestCallback(request),
+								new JsonPathExtractor<T>(jsonPath)), result);
+					}
+				});
+
+				return result;
+			}
+
+			/**
+			 * Returns the raw {@link ResponseEntity} with the representation unmarshalled into an instance of the given
+			 * type.
+			 * 
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> ListenableFuture<ResponseEntity<T>> toEntity(Class<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+				return exchange(type, null);
+			}
+
+			/**
+			 * Returns the {@link Link} found for the last rel in the rels configured to follow, expanded using the
+			 * configured template parameters.
+			 * 
+			 * @return
+			 * @see TraversalBuilder#withTemplateParameters(Map)
+			 */
+			public ListenableFuture<Link> asLink() {
+
+				final String rel = getLastRel();
+
+				return new ListenableFutureAdapter<Link, URI>(traverseToExpandedFinalUrl()) {
+
+					@Override
+					protected Link adapt(URI uri) {
+						return new Link(uri.toString(), rel);
+					}
+				};
+			}
+
+			/**
+			 * Returns the templated {@link Link} found for the last rel in the rels configured to follow.
+			 * 
+			 * @return
+			 */
+			public ListenableFuture<Link> asTemplatedLink() {
+
+				final String rel = getLastRel();
+
+				return new ListenableFutureAdapter<Link, String>(traverseToFinalUrl()) {
+
+					@Override
+					protected Link adapt(String uri) {
+						return new Link(new UriTemplate(uri).toString(), rel);
+					}
+				};
+			}
+
+			private String getLastRel() {
+
+				Assert.isTrue(rels.size() > 0, "At least one rel needs to be provided!");
+				return rels.get(rels.size() - 1).getRel();
+			}
+
+			private <T> ListenableFuture<ResponseEntity<T>> exchange(final Class<T> type,
+					final ParameterizedTypeReference<T> typeReference) {
+
+				final SettableListenableFuture<ResponseEntity<T>> result = new SettableListenableFuture<ResponseEntity<T>>();
+
+				traverseToExpandedFinalUrl().addCallback(new ForwardingCallback<URI, ResponseEntity<T>>(result) {
+
+					@Override
+					protected void doOnSuccess(URI uri) {
+
+						HttpEntity<?> request = prepareRequest(headers);
+
+						forward(type == null ? getAsyncOperations().exchange(uri, GET, request, typeReference)
+								: getAsyncOperations().exchange(uri, GET, request, type), result);
+					}
+				});
+
+				return result;
+			}
+
+			private ListenableFuture<URI> traverseToExpandedFinalUrl() {
+
+				return new ListenableFutureAdapter<URI, String>(traverseToFinalUrl()) {
+
+					@Override
+					protected URI adapt(String uri) {
+						return new UriTemplate(uri).expand(templateParameters);
+					}
+				};
+			}
+
+			private ListenableFuture<String> traverseToFinalUrl() {
+
+				SettableListenableFuture<String> result = new SettableListenableFuture<String>();
+
+				try {
+					getAndFindLinkWithRel(startUri, rels.iterator(), result);
+				} catch (RuntimeException o_O) {
+					result.setException(o_O);
+				}
+
+				return result;
+			}
+
+			private void getAndFindLinkWithRel(String uri, final Iterator<Hop> rels,
+					final SettableListenableFuture<String> result) {
+
+				if (!rels.hasNext()) {
+					result.set(uri);
+					return;
+				}
+
+				HttpEntity<?> request = prepareRequest(headers);
+				UriTemplate template = new UriTemplate(uri);
+				final Hop hop = rels.next();
+
+				ListenableFuture<Link> link = findLinkInHopAsync(template.expand(), request,
+						Rels.getRelFor(hop.getRel(), discoverers));
+
+				link.addCallback(new ForwardingCallback<Link, String>(result) {
+
+					@Override
+					protected void doOnSuccess(Link link) {
+						getAndFindLinkWithRel(getNextUri(link, hop), rels, result);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * A traversal to be executed for each of the links of a {@link TraversalBuilder.FanOutTraversal}.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private interface SubTraversal<T> {
+
+		/**
+		 * Executes the terminal operation on the given {@link TraversalBuilder}.
+		 * 
+		 * @param builder will never be {@literal null}.
+		 * @return
+		 */
+		ListenableFuture<T> execute(TraversalBuilder builder);
+	}
+
+	private static Link getRequiredLink(Link link, Rel rel, URI uri) {
+
+		if (link == null) {
+			throw new IllegalStateException(
+					String.format("Expected to find link with rel '%s' in response from %s!", rel, uri));
+		}
+
+		return link;
+	}
+
+	private static <T> ListenableFuture<T> getBody(ListenableFuture<ResponseEntity<T>> entity) {
+
+		return new ListenableFutureAdapter<T, ResponseEntity<T>>(entity) {
+
+			@Override
+			protected T adapt(ResponseEntity<T> entity) {
+				return entity.getBody();
+			}
+		};
+	}
+
+	private static <T> void forward(ListenableFuture<T> source, final SettableListenableFuture<T> target) {
+
+		source.addCallback(new ForwardingCallback<T, T>(target) {
+
+			@Override
+			protected void doOnSuccess(T result) {
+				target.set(result);
+			}
+		});
+	}
+
+	/**
+	 * {@link ListenableFutureCallback} to continue with the result of a {@link ListenableFuture} and to propagate
+	 * failures, including the ones of the continuation itself, to the given target {@link SettableListenableFuture}.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static abstract class ForwardingCallback<S, T> implements ListenableFutureCallback<S> {
+
+		private final SettableListenableFuture<T> target;
+
+		public ForwardingCallback(SettableListenableFuture<T> target) {
+			this.target = target;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.util.concurrent.SuccessCallback#onSuccess(java.lang.Object)
+		 */
+		@Override
+		public void onSuccess(S result) {
+
+			try {
+				doOnSuccess(result);
+			} catch (RuntimeException o_O) {
+				target.setException(o_O);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.util.concurrent.FailureCallback#onFailure(java.lang.Throwable)
+		 */
+		@Override
+		public void onFailure(Throwable ex) {
+			target.setException(ex);
+		}
+
+		protected abstract void doOnSuccess(S result);
+	}
+
+	/**
+	 * Applies the headers of a prepared {@link HttpEntity} to both synchronous and asynchronous requests.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class HeadersRequestCallback implements RequestCallback, AsyncRequestCallback {
+
+		private final HttpHeaders headers;
+
+		public HeadersRequestCallback(HttpEntity<?> request) {
+			this.headers = request.getHeaders();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.RequestCallback#doWithRequest(org.springframework.http.client.ClientHttpRequest)
+		 */
+		@Override
+		public void doWithRequest(ClientHttpRequest request) {
+			request.getHeaders().putAll(headers);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.AsyncRequestCallback#doWithRequest(org.springframework.http.client.AsyncClientHttpRequest)
+		 */
+		@Override
+		public void doWithRequest(AsyncClientHttpRequest request) {
+			request.getHeaders().putAll(headers);
+		}
+	}
+
+	/**
+	 * {@link ResponseExtractor} to discover the {@link Link} for a {@link Rel} straight from the response body.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class LinkExtractor implements ResponseExtractor<Link> {
+
+		private final URI uri;
+		private final Rel rel;
+
+		public LinkExtractor(URI uri, Rel rel) {
+
+			this.uri = uri;
+			this.rel = rel;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.ResponseExtractor#extractData(org.springframework.http.client.ClientHttpResponse)
+		 */
+		@Override
+		public Link extractData(ClientHttpResponse response) throws IOException {
+			return getRequiredLink(rel.findInResponse(response.getBody(), response.getHeaders().getContentType()), rel, uri);
+		}
+	}
+
+	/**
+	 * {@link ResponseExtractor} to discover all {@link Link}s for a {@link Rel} straight from the response body.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class LinksExtractor implements ResponseExtractor<List<Link>> {
+
+		private final Rel rel;
+
+		public LinksExtractor(Rel rel) {
+			this.rel = rel;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.ResponseExtractor#extractData(org.springframework.http.client.ClientHttpResponse)
+		 */
+		@Override
+		public List<Link> extractData(ClientHttpResponse response) throws IOException {
+			return rel.findAllInResponse(response.getBody(), response.getHeaders().getContentType());
+		}
+	}
+
+	/**
+	 * {@link ResponseExtractor} to evaluate a JSON path expression straight against the response body.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class JsonPathExtractor<T> implements ResponseExtractor<T> {
+
+		private final String jsonPath;
+
+		public JsonPathExtractor(String jsonPath) {
+			this.jsonPath = jsonPath;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.ResponseExtractor#extractData(org.springframework.http.client.ClientHttpResponse)
+		 */
+		@Override
+		public T extractData(ClientHttpResponse response) throws IOException {
+			return Rels.<T> readJsonPath(response.getBody(), response.getHeaders().getContentType(), jsonPath);
 		}
 	}
 }
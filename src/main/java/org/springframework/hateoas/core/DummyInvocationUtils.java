@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,12 +23,10 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 
-import org.aopalliance.intercept.MethodInterceptor;
-import org.springframework.aop.framework.ProxyFactory;
-import org.springframework.aop.target.EmptyTargetSource;
 import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
 import org.springframework.cglib.proxy.MethodProxy;
 import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
@@ -46,6 +44,9 @@ public class DummyInvocationUtils {
 	private static final ObjenesisStd OBJENESIS = new ObjenesisStd();
 	private static final Map<Class<?>, Class<?>> CLASS_CACHE = new ConcurrentReferenceHashMap<Class<?>, Class<?>>(16,
 			ReferenceType.WEAK);
+	private static final Map<Class<?>, Object> SHARED_PROXY_CACHE = new ConcurrentReferenceHashMap<Class<?>, Object>(16,
+			ReferenceType.WEAK);
+	private static final ThreadLocal<InvocationRecordingMethodInterceptor> RECORDERS = new ThreadLocal<InvocationRecordingMethodInterceptor>();
 
 	public interface LastInvocationAware {
 
@@ -60,8 +61,7 @@ public class DummyInvocationUtils {
 	 * 
 	 * @author Oliver Gierke
 	 */
-	private static class InvocationRecordingMethodInterceptor
-			implements MethodInterceptor, LastInvocationAware, org.springframework.cglib.proxy.MethodInterceptor {
+	private static class InvocationRecordingMethodInterceptor implements MethodInterceptor, LastInvocationAware {
 
 		private static final Method GET_INVOCATIONS;
 		private static final Method GET_OBJECT_PARAMETERS;
@@ -91,6 +91,16 @@ public class DummyInvocationUtils {
 			this.objectParameters = parameters.clone();
 		}
 
+		/**
+		 * Records the invocation of the given {@link Method} with the given arguments.
+		 * 
+		 * @param method must not be {@literal null}.
+		 * @param args must not be {@literal null}.
+		 */
+		void record(Method method, Object[] args) {
+			this.invocation = new SimpleMethodInvocation(targetType, method, args);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.cglib.proxy.MethodInterceptor#intercept(java.lang.Object, java.lang.reflect.Method, java.lang.Object[], org.springframework.cglib.proxy.MethodProxy)
@@ -106,21 +116,12 @@ public class DummyInvocationUtils {
 				return ReflectionUtils.invokeMethod(method, obj, args);
 			}
 
-			this.invocation = new SimpleMethodInvocation(targetType, method, args);
+			record(method, args);
 
 			Class<?> returnType = method.getReturnType();
 			return returnType.cast(getProxyWithInterceptor(returnType, this, obj.getClass().getClassLoader()));
 		}
 
-		/* 
-		 * (non-Javadoc)
-		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
-		 */
-		@Override
-		public Object invoke(org.aopalliance.intercept.MethodInvocation invocation) throws Throwable {
-			return intercept(invocation.getThis(), invocation.getMethod(), invocation.getArguments(), null);
-		}
-
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getLastInvocation()
@@ -141,10 +142,47 @@ public class DummyInvocationUtils {
 	}
 
 	/**
-	 * Returns a proxy of the given type, backed by an {@link EmptyTargetSource} to simply drop method invocations but
-	 * equips it with an {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
-	 * returns a proxy of the return type that also implements {@link LastInvocationAware} so that the last method
-	 * invocation can be inspected. Parameters passed to the subsequent method invocation are generally neglected except
+	 * CGLIB {@link MethodInterceptor} shared by all proxies handed out by
+	 * {@link DummyInvocationUtils#sharedMethodOn(Class, Object...)}. Forwards all invocations to the
+	 * {@link InvocationRecordingMethodInterceptor} bound to the current thread and returns the shared proxy of the
+	 * invoked method's return type.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static enum ThreadBoundMethodInterceptor implements MethodInterceptor {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.cglib.proxy.MethodInterceptor#intercept(java.lang.Object, java.lang.reflect.Method, java.lang.Object[], org.springframework.cglib.proxy.MethodProxy)
+		 */
+		@Override
+		public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) {
+
+			InvocationRecordingMethodInterceptor recorder = RECORDERS.get();
+
+			Assert.state(recorder != null, "No invocation recording in progress! Use sharedMethodOn(…) to start one.");
+
+			if (InvocationRecordingMethodInterceptor.GET_INVOCATIONS.equals(method)) {
+				return recorder.getLastInvocation();
+			} else if (InvocationRecordingMethodInterceptor.GET_OBJECT_PARAMETERS.equals(method)) {
+				return recorder.getObjectParameters();
+			} else if (Object.class.equals(method.getDeclaringClass())) {
+				return ReflectionUtils.invokeMethod(method, obj, args);
+			}
+
+			recorder.record(method, args);
+
+			Class<?> returnType = method.getReturnType();
+			return returnType.cast(getSharedProxy(returnType, obj.getClass().getClassLoader()));
+		}
+	}
+
+	/**
+	 * Returns a proxy of the given type that simply drops method invocations but equips it with an
+	 * {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and returns a proxy of the
+	 * return type that also implements {@link LastInvocationAware} so that the last method invocation can be inspected. Parameters passed to the subsequent method invocation are generally neglected except
 	 * the ones that might be mapped into the URI translation eventually, e.g. {@linke PathVariable} in the case of Spring
 	 * MVC. Note, that the return types of the methods have to be capable to be proxied.
 	 * 
@@ -160,29 +198,77 @@ public class DummyInvocationUtils {
 		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
 	}
 
+	/**
+	 * Allocation-light variant of {@link #methodOn(Class, Object...)} that hands out a single, shared proxy instance per
+	 * type and records the invocations in a recorder bound to the current thread. Thus, no proxy has to be instantiated
+	 * once the proxies for the controller type and the return types of the invoked methods have been created.
+	 * <p>
+	 * As the recording is bound to the current thread, the value returned from the invocation on the proxy reflects the
+	 * last invocation recorded on that thread. I.e. it has to be handed into {@code linkTo(…)} before the next call to
+	 * this method on the same thread. {@code linkTo(…)} releases the recording via {@link #releaseSharedInvocation()}:
+	 * 
+	 * <pre>
+	 * Link link = linkTo(sharedMethodOn(CustomerController.class).showAddresses(2L)).withRel("addresses");
+	 * </pre>
+	 * 
+	 * Use {@link #methodOn(Class, Object...)} in case you need to keep multiple recorded invocations around at the same
+	 * time.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 0.24
+	 */
+	public static <T> T sharedMethodOn(Class<T> type, Object... parameters) {
+
+		Assert.notNull(type, "Given type must not be null!");
+
+		RECORDERS.set(new InvocationRecordingMethodInterceptor(type, parameters));
+
+		return type.cast(getSharedProxy(type, type.getClassLoader()));
+	}
+
+	/**
+	 * Releases the invocation recorded for the current thread by {@link #sharedMethodOn(Class, Object...)} so that
+	 * neither the recorded arguments nor the controller type stay reachable from the thread. To be called once the
+	 * recorded invocation has been consumed.
+	 * 
+	 * @since 0.24
+	 */
+	public static void releaseSharedInvocation() {
+		RECORDERS.remove();
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
 			ClassLoader classLoader) {
 
-		if (type.isInterface()) {
+		Factory factory = (Factory) OBJENESIS.newInstance(getOrCreateEnhancedClass(type, classLoader));
+		factory.setCallbacks(new Callback[] { interceptor });
+		return (T) factory;
+	}
 
-			ProxyFactory factory = new ProxyFactory(EmptyTargetSource.INSTANCE);
-			factory.addInterface(type);
-			factory.addInterface(LastInvocationAware.class);
-			factory.addAdvice(interceptor);
+	/**
+	 * Returns the shared proxy instance for the given type, backed by the {@link ThreadBoundMethodInterceptor}.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param classLoader must not be {@literal null}.
+	 * @return
+	 */
+	private static Object getSharedProxy(Class<?> type, ClassLoader classLoader) {
 
-			return (T) factory.getProxy();
-		}
+		Object proxy = SHARED_PROXY_CACHE.get(type);
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(type);
-		enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
-		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
-		enhancer.setClassLoader(classLoader);
+		if (proxy != null) {
+			return proxy;
+		}
 
 		Factory factory = (Factory) OBJENESIS.newInstance(getOrCreateEnhancedClass(type, classLoader));
-		factory.setCallbacks(new Callback[] { interceptor });
-		return (T) factory;
+		factory.setCallbacks(new Callback[] { ThreadBoundMethodInterceptor.INSTANCE });
+
+		SHARED_PROXY_CACHE.put(type, factory);
+
+		return factory;
 	}
 
 	public interface MethodInvocation {
@@ -213,9 +299,15 @@ public class DummyInvocationUtils {
 		}
 
 		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(type);
-		enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
-		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
+
+		if (type.isInterface()) {
+			enhancer.setInterfaces(new Class<?>[] { type, LastInvocationAware.class });
+		} else {
+			enhancer.setSuperclass(type);
+			enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
+		}
+
+		enhancer.setCallbackType(MethodInterceptor.class);
 		enhancer.setClassLoader(classLoader);
 
 		result = enhancer.createClass();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2014 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,13 +21,19 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.minidev.json.JSONArray;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.hateoas.Links;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -37,14 +43,19 @@ import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 
 /**
- * {@link LinkDiscoverer} that uses {@link JsonPath} to find links inside a representation.
+ * {@link LinkDiscoverer} that uses {@link JsonPath} to find links inside a representation. The compiled
+ * {@link JsonPath} expressions are cached by relation type, up to {@value #MAX_CACHED_EXPRESSIONS} relation types per
+ * instance.
  * 
  * @author Oliver Gierke
  */
-public class JsonPathLinkDiscoverer implements LinkDiscoverer {
+public class JsonPathLinkDiscoverer implements MultiRelLinkDiscoverer {
+
+	static final int MAX_CACHED_EXPRESSIONS = 256;
 
 	private static Method compileMethod;
 	private static Object emptyFilters;
+	private static JsonPath rootExpression;
 
 	static {
 
@@ -64,10 +75,13 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		}
 
 		Assert.state(compileMethod != null, "Unexpected JsonPath API - no compile(String, ...) method found");
+
+		rootExpression = (JsonPath) ReflectionUtils.invokeMethod(compileMethod, null, "$", emptyFilters);
 	}
 
 	private final String pathTemplate;
 	private final MediaType mediaType;
+	private final ConcurrentMap<String, JsonPath> expressions = new ConcurrentHashMap<String, JsonPath>();
 
 	/**
 	 * Creates a new {@link JsonPathLinkDiscoverer} using the given path template supporting the given {@link MediaType}.
@@ -138,14 +152,88 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		}
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
+	 */
+	@Override
+	public Links findLinksWithRels(Collection<String> rels, String representation) {
+
+		Assert.notNull(rels, "Relation types must not be null!");
+
+		try {
+			Object document = rootExpression.read(representation);
+			return findLinksWithRelsIn(document, rels);
+		} catch (InvalidPathException e) {
+			return new Links();
+		}
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
+	 */
+	@Override
+	public Links findLinksWithRels(Collection<String> rels, InputStream representation) {
+
+		Assert.notNull(rels, "Relation types must not be null!");
+
+		try {
+			Object document = rootExpression.read(representation);
+			return findLinksWithRelsIn(document, rels);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Evaluates the expressions for all given relation types against the given, already parsed document.
+	 * 
+	 * @param document the parsed representation.
+	 * @param rels must not be {@literal null}.
+	 * @return
+	 */
+	private Links findLinksWithRelsIn(Object document, Collection<String> rels) {
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (String rel : new LinkedHashSet<String>(rels)) {
+
+			try {
+				links.addAll(createLinksFrom(getExpression(rel).read(document), rel));
+			} catch (InvalidPathException e) {
+				// No links for the given relation type
+			}
+		}
+
+		return new Links(links);
+	}
+
 	/**
-	 * Returns the {@link JsonPath} to find links with the given relation type.
+	 * Returns the {@link JsonPath} to find links with the given relation type. Compiles the expression on first access
+	 * for a relation type and caches it unless the cache is full already.
 	 * 
 	 * @param rel
 	 * @return
 	 */
-	private JsonPath getExpression(String rel) {
-		return (JsonPath) ReflectionUtils.invokeMethod(compileMethod, null, String.format(pathTemplate, rel), emptyFilters);
+	JsonPath getExpression(String rel) {
+
+		JsonPath expression = expressions.get(rel);
+
+		if (expression != null) {
+			return expression;
+		}
+
+		expression = (JsonPath) ReflectionUtils.invokeMethod(compileMethod, null, String.format(pathTemplate, rel),
+				emptyFilters);
+
+		if (expressions.size() < MAX_CACHED_EXPRESSIONS) {
+
+			JsonPath existing = expressions.putIfAbsent(rel, expression);
+			return existing == null ? expression : existing;
+		}
+
+		return expression;
 	}
 
 	/**
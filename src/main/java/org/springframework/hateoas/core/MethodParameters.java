@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,14 +56,30 @@ public class MethodParameters {
 	 * @param namingAnnotation can be {@literal null}.
 	 */
 	public MethodParameters(Method method, AnnotationAttribute namingAnnotation) {
+		this(method, namingAnnotation, DISCOVERER);
+	}
+
+	/**
+	 * Creates a new {@link MethodParameters} for the given {@link Method}, {@link AnnotationAttribute} and
+	 * {@link ParameterNameDiscoverer}. The latter will be used to discover the names of parameters not named via the
+	 * {@link AnnotationAttribute}.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param namingAnnotation can be {@literal null}.
+	 * @param discoverer must not be {@literal null}.
+	 * @since 0.24
+	 */
+	public MethodParameters(Method method, AnnotationAttribute namingAnnotation, ParameterNameDiscoverer discoverer) {
 
 		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(discoverer, "ParameterNameDiscoverer must not be null!");
+
 		this.parameters = new ArrayList<MethodParameter>();
 
 		for (int i = 0; i < method.getParameterTypes().length; i++) {
 
 			MethodParameter parameter = new AnnotationNamingMethodParameter(method, i, namingAnnotation);
-			parameter.initParameterNameDiscovery(DISCOVERER);
+			parameter.initParameterNameDiscovery(discoverer);
 			parameters.add(parameter);
 		}
 	}
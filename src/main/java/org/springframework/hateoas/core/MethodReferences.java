@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.springframework.asm.Type;
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.hateoas.core.DummyInvocationUtils.SimpleMethodInvocation;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Serializable functional interfaces to point to controller methods using Java 8 method references and the means to
+ * resolve the referenced {@link Method} from them. In contrast to {@link DummyInvocationUtils#methodOn(Class, Object...)}
+ * this doesn't need any proxies to be created at runtime.
+ *
+ * <pre>
+ * MethodInvocation invocation = invocationOf(CustomerController::showAddresses, 2L);
+ * </pre>
+ *
+ * The referenced {@link Method} is resolved once per method reference through the
+ * {@code java.lang.invoke.SerializedLambda} the compiler generates for it and cached.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+public class MethodReferences {
+
+	private static final String SERIALIZED_LAMBDA = "java.lang.invoke.SerializedLambda";
+	private static final int REF_INVOKE_VIRTUAL = 5;
+	private static final int REF_INVOKE_INTERFACE = 9;
+
+	private static final Map<Class<?>, ResolvedMethodReference> CACHE = new ConcurrentReferenceHashMap<Class<?>, ResolvedMethodReference>(
+			16, ReferenceType.WEAK);
+
+	/**
+	 * Common base interface for all method references.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public interface MethodReference extends Serializable {}
+
+	/**
+	 * A reference to a method without any parameters.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public interface MethodReference0<T> extends MethodReference {
+		Object invoke(T controller);
+	}
+
+	/**
+	 * A reference to a method with a single parameter.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public interface MethodReference1<T, P1> extends MethodReference {
+		Object invoke(T controller, P1 first);
+	}
+
+	/**
+	 * A reference to a method with two parameters.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public interface MethodReference2<T, P1, P2> extends MethodReference {
+		Object invoke(T controller, P1 first, P2 second);
+	}
+
+	/**
+	 * A reference to a method with three parameters.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public interface MethodReference3<T, P1, P2, P3> extends MethodReference {
+		Object invoke(T controller, P1 first, P2 second, P3 third);
+	}
+
+	/**
+	 * A reference to a method with four parameters.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public interface MethodReference4<T, P1, P2, P3, P4> extends MethodReference {
+		Object invoke(T controller, P1 first, P2 second, P3 third, P4 fourth);
+	}
+
+	/**
+	 * Returns a {@link MethodInvocation} of the method pointed to by the given {@link MethodReference} using the given
+	 * arguments.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public static MethodInvocation invocationOf(MethodReference reference, Object... arguments) {
+
+		Assert.notNull(reference, "Method reference must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		ResolvedMethodReference resolved = resolve(reference);
+		Method method = resolved.method;
+
+		Assert.isTrue(method.getParameterTypes().length == arguments.length,
+				String.format("Expected %s arguments for method %s but got %s!", method.getParameterTypes().length, method,
+						arguments.length));
+
+		return new SimpleMethodInvocation(resolved.targetType, method, arguments);
+	}
+
+	/**
+	 * Returns the {@link Method} the given {@link MethodReference} points to.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @return
+	 */
+	public static Method getMethod(MethodReference reference) {
+
+		Assert.notNull(reference, "Method reference must not be null!");
+
+		return resolve(reference).method;
+	}
+
+	private static ResolvedMethodReference resolve(MethodReference reference) {
+
+		Class<?> type = reference.getClass();
+		ResolvedMethodReference resolved = CACHE.get(type);
+
+		if (resolved != null) {
+			return resolved;
+		}
+
+		resolved = doResolve(reference);
+		CACHE.put(type, resolved);
+
+		return resolved;
+	}
+
+	private static ResolvedMethodReference doResolve(MethodReference reference) {
+
+		Class<?> type = reference.getClass();
+		ClassLoader classLoader = type.getClassLoader();
+		Method writeReplace = ReflectionUtils.findMethod(type, "writeReplace");
+
+		if (writeReplace == null) {
+			throw new IllegalArgumentException(
+					String.format("%s is not a serializable lambda! Make sure you hand in a method reference.", type));
+		}
+
+		ReflectionUtils.makeAccessible(writeReplace);
+		Object lambda = ReflectionUtils.invokeMethod(writeReplace, reference);
+
+		if (lambda == null || !SERIALIZED_LAMBDA.equals(lambda.getClass().getName())) {
+			throw new IllegalArgumentException(
+					String.format("%s is not a serializable lambda! Make sure you hand in a method reference.", type));
+		}
+
+		int kind = (Integer) invoke(lambda, "getImplMethodKind");
+
+		if (kind != REF_INVOKE_VIRTUAL && kind != REF_INVOKE_INTERFACE) {
+			throw new IllegalArgumentException(
+					"Only references to instance methods are supported, e.g. CustomerController::showAddresses!");
+		}
+
+		Class<?> implClass = loadClass(((String) invoke(lambda, "getImplClass")).replace('/', '.'), classLoader);
+		String name = (String) invoke(lambda, "getImplMethodName");
+		String descriptor = (String) invoke(lambda, "getImplMethodSignature");
+
+		Type[] instantiatedTypes = Type.getArgumentTypes((String) invoke(lambda, "getInstantiatedMethodType"));
+		Class<?> targetType = instantiatedTypes.length == 0 ? implClass
+				: loadClass(instantiatedTypes[0].getClassName(), classLoader);
+
+		Method method = findMethod(implClass, name, descriptor);
+
+		if (method == null || method.isSynthetic()) {
+			throw new IllegalArgumentException(String.format(
+					"Could not resolve method %s%s on %s! Make sure you hand in a method reference, not a lambda expression.",
+					name, descriptor, implClass));
+		}
+
+		return new ResolvedMethodReference(targetType, method);
+	}
+
+	private static Method findMethod(Class<?> type, final String name, final String descriptor) {
+
+		final Method[] result = new Method[1];
+
+		ReflectionUtils.doWithMethods(type, new ReflectionUtils.MethodCallback() {
+
+			@Override
+			public void doWith(Method method) {
+
+				if (result[0] == null && name.equals(method.getName())
+						&& descriptor.equals(Type.getMethodDescriptor(method))) {
+					result[0] = method;
+				}
+			}
+		});
+
+		return result[0];
+	}
+
+	private static Object invoke(Object lambda, String methodName) {
+		return ReflectionUtils.invokeMethod(ReflectionUtils.findMethod(lambda.getClass(), methodName), lambda);
+	}
+
+	private static Class<?> loadClass(String name, ClassLoader classLoader) {
+
+		try {
+			return ClassUtils.forName(name, classLoader);
+		} catch (ClassNotFoundException o_O) {
+			throw new IllegalStateException(o_O);
+		} catch (LinkageError o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * The {@link Method} a method reference points to alongside the type it is referred to on.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class ResolvedMethodReference {
+
+		private final Class<?> targetType;
+		private final Method method;
+
+		public ResolvedMethodReference(Class<?> targetType, Method method) {
+
+			this.targetType = targetType;
+			this.method = method;
+		}
+	}
+}
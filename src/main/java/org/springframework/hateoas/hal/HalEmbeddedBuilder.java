@@ -67,6 +67,7 @@ class HalEmbeddedBuilder {
 	 * 
 	 * @param source can be {@literal null}.
 	 */
+	@SuppressWarnings("unchecked")
 	public void add(Object source) {
 
 		EmbeddedWrapper wrapper = wrappers.wrap(source);
@@ -90,9 +91,15 @@ class HalEmbeddedBuilder {
 			return;
 		}
 
+		// Lists stored under the collection rel are created below, so we can append to them directly
+		if (currentValue instanceof List && collectionOrItemRel.equals(collectionRel)) {
+			((List<Object>) currentValue).addAll(asCollection(value));
+			return;
+		}
+
 		List<Object> list = new ArrayList<Object>();
 		list.addAll(asCollection(currentValue));
-		list.addAll(asCollection(wrapper.getValue()));
+		list.addAll(asCollection(value));
 
 		embeddeds.remove(collectionOrItemRel);
 		embeddeds.put(collectionRel, list);
@@ -105,6 +112,21 @@ class HalEmbeddedBuilder {
 	}
 
 	private String getDefaultedRelFor(EmbeddedWrapper wrapper, boolean forCollection) {
+		return getDefaultedRelFor(wrapper, forCollection, provider, curieProvider);
+	}
+
+	/**
+	 * Returns the relation type to use for the given {@link EmbeddedWrapper}, falling back to the default one if none
+	 * can be determined.
+	 * 
+	 * @param wrapper must not be {@literal null}.
+	 * @param forCollection whether to look up the collection relation type.
+	 * @param provider can be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 * @return
+	 */
+	static String getDefaultedRelFor(EmbeddedWrapper wrapper, boolean forCollection, RelProvider provider,
+			CurieProvider curieProvider) {
 
 		String valueRel = wrapper.getRel();
 
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.core.EmbeddedWrappers;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes the elements of an {@link Iterable} as HAL {@code _embedded} object directly to a {@link JsonGenerator}
+ * instead of collecting them in a {@link HalEmbeddedBuilder} first. Elements are grouped by relation type the same
+ * way {@link HalEmbeddedBuilder} does. The elements of the relation type encountered first are written as they're
+ * iterated, so that homogeneous content is never held in memory as a whole. Elements of other relation types are
+ * buffered and written once the source is exhausted.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ * @see HalEmbeddedBuilder
+ */
+class HalEmbeddedWriter {
+
+	private final RelProvider provider;
+	private final CurieProvider curieProvider;
+	private final EmbeddedWrappers wrappers;
+
+	private final JsonGenerator generator;
+	private final SerializerProvider serializers;
+	private final BeanProperty property;
+
+	private Class<?> lastType;
+	private JsonSerializer<Object> lastSerializer;
+	private boolean curiedRelWritten;
+
+	/**
+	 * Creates a new {@link HalEmbeddedWriter} writing to the given {@link JsonGenerator}.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 * @param preferCollectionRels whether to prefer to ask the provider for collection rels.
+	 * @param generator must not be {@literal null}.
+	 * @param serializers must not be {@literal null}.
+	 * @param property can be {@literal null}.
+	 */
+	public HalEmbeddedWriter(RelProvider provider, CurieProvider curieProvider, boolean preferCollectionRels,
+			JsonGenerator generator, SerializerProvider serializers, BeanProperty property) {
+
+		Assert.notNull(provider, "RelProvider must not be null!");
+		Assert.notNull(generator, "JsonGenerator must not be null!");
+		Assert.notNull(serializers, "SerializerProvider must not be null!");
+
+		this.provider = provider;
+		this.curieProvider = curieProvider;
+		this.wrappers = new EmbeddedWrappers(preferCollectionRels);
+		this.generator = generator;
+		this.serializers = serializers;
+		this.property = property;
+	}
+
+	/**
+	 * Writes the given source elements as JSON object keyed by their relation types.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return whether any of the relation types written was namespaced.
+	 * @throws IOException
+	 */
+	public boolean write(Iterable<?> source) throws IOException {
+
+		Assert.notNull(source, "Elements must not be null!");
+
+		Iterator<?> iterator = source.iterator();
+		Map<String, Group> buffered = new LinkedHashMap<String, Group>();
+
+		generator.writeStartObject();
+
+		EmbeddedWrapper first = next(iterator);
+
+		if (first != null) {
+
+			String rel = getRelFor(first, true);
+			Group group = new Group(first);
+
+			// Look ahead until we know whether the first relation type has to be rendered as collection
+			while (group.isSingle() && iterator.hasNext()) {
+
+				EmbeddedWrapper wrapper = next(iterator);
+
+				if (wrapper != null) {
+					add(wrapper, rel, group, buffered);
+				}
+			}
+
+			if (group.isSingle()) {
+
+				writeFieldName(getRelFor(first, false));
+				writeValue(first.getValue());
+
+			} else {
+
+				writeFieldName(rel);
+				generator.writeStartArray();
+				writeValues(group.values);
+
+				while (iterator.hasNext()) {
+
+					EmbeddedWrapper wrapper = next(iterator);
+
+					if (wrapper == null) {
+						continue;
+					}
+
+					if (rel.equals(getRelFor(wrapper, true))) {
+						writeValues(wrapper);
+					} else {
+						add(wrapper, null, null, buffered);
+					}
+				}
+
+				generator.writeEndArray();
+			}
+		}
+
+		for (Group group : buffered.values()) {
+
+			if (group.isSingle()) {
+
+				writeFieldName(getRelFor(group.first, false));
+				writeValue(group.first.getValue());
+
+			} else {
+
+				writeFieldName(getRelFor(group.first, true));
+				generator.writeStartArray();
+				writeValues(group.values);
+				generator.writeEndArray();
+			}
+		}
+
+		generator.writeEndObject();
+
+		return curiedRelWritten;
+	}
+
+	private EmbeddedWrapper next(Iterator<?> iterator) {
+
+		while (iterator.hasNext()) {
+
+			EmbeddedWrapper wrapper = wrappers.wrap(iterator.next());
+
+			if (wrapper != null) {
+				return wrapper;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Adds the given {@link EmbeddedWrapper} to the given current {@link Group} if it belongs to the given relation type
+	 * or to the buffered ones otherwise.
+	 */
+	private void add(EmbeddedWrapper wrapper, String currentRel, Group current, Map<String, Group> buffered) {
+
+		String rel = getRelFor(wrapper, true);
+
+		if (rel.equals(currentRel)) {
+			current.add(wrapper);
+			return;
+		}
+
+		Group group = buffered.get(rel);
+
+		if (group == null) {
+			buffered.put(rel, new Group(wrapper));
+		} else {
+			group.add(wrapper);
+		}
+	}
+
+	private String getRelFor(EmbeddedWrapper wrapper, boolean forCollection) {
+		return HalEmbeddedBuilder.getDefaultedRelFor(wrapper, forCollection, provider, curieProvider);
+	}
+
+	private void writeFieldName(String rel) throws IOException {
+
+		if (rel.contains(":")) {
+			curiedRelWritten = true;
+		}
+
+		generator.writeFieldName(rel);
+	}
+
+	private void writeValues(EmbeddedWrapper wrapper) throws IOException {
+
+		Object value = wrapper.getValue();
+
+		if (wrapper.isCollectionValue() && value instanceof Collection) {
+			writeValues((Collection<?>) value);
+		} else {
+			writeValue(value);
+		}
+	}
+
+	private void writeValues(Collection<?> values) throws IOException {
+
+		for (Object value : values) {
+			writeValue(value);
+		}
+	}
+
+	private void writeValue(Object value) throws IOException {
+
+		if (value == null) {
+			serializers.defaultSerializeNull(generator);
+			return;
+		}
+
+		Class<?> type = value.getClass();
+
+		if (type != lastType) {
+			this.lastSerializer = serializers.findValueSerializer(type, property);
+			this.lastType = type;
+		}
+
+		lastSerializer.serialize(value, generator, serializers);
+	}
+
+	/**
+	 * The elements collected for a single relation type.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class Group {
+
+		private final EmbeddedWrapper first;
+		private final List<Object> values = new ArrayList<Object>();
+		private int wrappers = 0;
+
+		public Group(EmbeddedWrapper first) {
+
+			this.first = first;
+			add(first);
+		}
+
+		public void add(EmbeddedWrapper wrapper) {
+
+			Object value = wrapper.getValue();
+
+			if (wrapper.isCollectionValue() && value instanceof Collection) {
+				values.addAll((Collection<?>) value);
+			} else {
+				values.add(value);
+			}
+
+			wrappers++;
+		}
+
+		/**
+		 * Returns whether the group consists of a single element that has to be rendered using the item relation type.
+		 *
+		 * @return
+		 */
+		public boolean isSingle() {
+			return wrappers == 1 && !first.isCollectionValue();
+		}
+	}
+}
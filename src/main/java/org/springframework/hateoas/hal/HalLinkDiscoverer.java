@@ -22,6 +22,7 @@ import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
 /**
  * {@link LinkDiscoverer} implementation based on HAL link structure.
  * 
+ * @see StreamingHalLinkDiscoverer
  * @author Oliver Gierke
  */
 public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
@@ -19,11 +19,14 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
@@ -35,6 +38,7 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -71,7 +75,6 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
-import com.fasterxml.jackson.databind.ser.std.MapSerializer;
 import com.fasterxml.jackson.databind.ser.std.NonTypedScalarSerializerBase;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
@@ -124,6 +127,8 @@ public class Jackson2HalModule extends SimpleModule {
 		private final EmbeddedMapper mapper;
 		private final MessageSourceAccessor accessor;
 
+		private transient volatile JsonSerializer<Object> halLinkSerializer;
+
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageSourceAccessor accessor) {
 			this(null, curieProvider, mapper, accessor);
 		}
@@ -149,19 +154,10 @@ public class Jackson2HalModule extends SimpleModule {
 
 			// sort links according to their relation
 			Map<String, List<Object>> sortedLinks = new LinkedHashMap<String, List<Object>>();
-			List<Link> links = new ArrayList<Link>();
 
 			boolean prefixingRequired = curieProvider != null;
-			boolean curiedLinkPresent = false;
-			boolean skipCuries = !jgen.getOutputContext().getParent().inRoot();
-
-			Object currentValue = jgen.getCurrentValue();
-
-			if (currentValue instanceof Resources) {
-				if (mapper.hasCuriedEmbed((Resources<?>) currentValue)) {
-					curiedLinkPresent = true;
-				}
-			}
+			boolean skipCuries = !prefixingRequired || !jgen.getOutputContext().getParent().inRoot();
+			boolean curiedLinkPresent = !skipCuries && mapper.hasCuriedEmbed(jgen.getCurrentValue(), provider);
 
 			for (Link link : value) {
 
@@ -175,32 +171,86 @@ public class Jackson2HalModule extends SimpleModule {
 					curiedLinkPresent = true;
 				}
 
-				if (sortedLinks.get(rel) == null) {
-					sortedLinks.put(rel, new ArrayList<Object>());
+				List<Object> relLinks = sortedLinks.get(rel);
+
+				if (relLinks == null) {
+					relLinks = new ArrayList<Object>(1);
+					sortedLinks.put(rel, relLinks);
 				}
 
-				links.add(link);
+				relLinks.add(toHalLink(link));
+			}
+
+			if (!skipCuries && curiedLinkPresent) {
+
+				List<Link> links = new ArrayList<Link>(value.size());
+
+				for (Link link : value) {
+					if (!link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
+						links.add(link);
+					}
+				}
+
+				Object curies = curieProvider.getCurieInformation(new Links(links));
+				sortedLinks.put("curies", Collections.singletonList(curies));
+			}
+
+			jgen.writeStartObject();
+
+			for (Entry<String, List<Object>> entry : sortedLinks.entrySet()) {
+
+				jgen.writeFieldName(entry.getKey());
+				writeLinks(entry.getValue(), jgen, provider);
+			}
+
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Writes the given {@link HalLink}s (or curie information) as immediate object if it's a single one, or as array
+		 * otherwise.
+		 * 
+		 * @param links must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeLinks(List<Object> links, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
-				sortedLinks.get(rel).add(toHalLink(link));
+			if (links.size() == 1) {
+				writeLink(links.get(0), jgen, provider);
+				return;
 			}
 
-			if (!skipCuries && prefixingRequired && curiedLinkPresent) {
+			jgen.writeStartArray();
 
-				ArrayList<Object> curies = new ArrayList<Object>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
+			for (Object link : links) {
+				writeLink(link, jgen, provider);
+			}
 
-				sortedLinks.put("curies", curies);
+			jgen.writeEndArray();
+		}
+
+		private void writeLink(Object link, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			if (link == null) {
+				provider.defaultSerializeNull(jgen);
+				return;
+			}
+
+			if (!(link instanceof HalLink)) {
+				provider.findValueSerializer(link.getClass(), property).serialize(link, jgen, provider);
+				return;
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.uncheckedSimpleType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			JsonSerializer<Object> serializer = this.halLinkSerializer;
 
-			MapSerializer serializer = MapSerializer.construct(new String[] {}, mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property), null);
+			if (serializer == null) {
+				serializer = provider.findValueSerializer(HalLink.class, property);
+				this.halLinkSerializer = serializer;
+			}
 
-			serializer.serialize(sortedLinks, jgen, provider);
+			serializer.serialize(link, jgen, provider);
 		}
 
 		/**
@@ -338,18 +388,17 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			Map<String, Object> embeddeds = embeddedMapper.map(value);
-
 			Object currentValue = jgen.getCurrentValue();
+			boolean curiedEmbed = embeddedMapper.write(value, currentValue, jgen, provider, property);
+
+			if (curiedEmbed && currentValue instanceof ResourceSupport) {
 
-			if (currentValue instanceof ResourceSupport) {
+				ResourceSupport resource = (ResourceSupport) currentValue;
 
-				if (embeddedMapper.hasCuriedEmbed(value)) {
-					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
+				if (!resource.getLinks().contains(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
+					resource.add(CURIES_REQUIRED_DUE_TO_EMBEDS);
 				}
 			}
-
-			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
 		}
 
 		@Override
@@ -874,6 +923,8 @@ public class Jackson2HalModule extends SimpleModule {
 	 */
 	private static class EmbeddedMapper {
 
+		private static final String CURIED_EMBEDS_ATTRIBUTE = EmbeddedMapper.class.getName() + ".CURIED_EMBEDS";
+
 		private RelProvider relProvider;
 		private CurieProvider curieProvider;
 		private boolean preferCollectionRels;
@@ -914,6 +965,84 @@ public class Jackson2HalModule extends SimpleModule {
 			return builder.asMap();
 		}
 
+		/**
+		 * Writes the given source elements as embedded values to the given {@link JsonGenerator} without collecting them
+		 * in a {@link Map} first. Records whether any of the elements was namespaced for the given owner, so that
+		 * {@link #hasCuriedEmbed(Object, SerializerProvider)} doesn't have to inspect the elements again.
+		 * 
+		 * @param source must not be {@literal null}.
+		 * @param owner the object owning the embedded values, can be {@literal null}.
+		 * @param generator must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @param property can be {@literal null}.
+		 * @return whether any of the written elements was namespaced.
+		 * @throws IOException
+		 */
+		public boolean write(Iterable<?> source, Object owner, JsonGenerator generator, SerializerProvider provider,
+				BeanProperty property) throws IOException {
+
+			boolean curied = new HalEmbeddedWriter(relProvider, curieProvider, preferCollectionRels, generator, provider,
+					property).write(source);
+
+			if (owner != null) {
+				getCuriedEmbeds(provider).put(owner, curied);
+			}
+
+			return curied;
+		}
+
+		/**
+		 * Returns whether the embedded values of the given owner are namespaced. Reuses the result recorded while writing
+		 * them during the current serialization and only inspects the content of {@link Resources} if they haven't been
+		 * written yet.
+		 * 
+		 * @param owner can be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 */
+		public boolean hasCuriedEmbed(Object owner, SerializerProvider provider) {
+
+			if (owner == null) {
+				return false;
+			}
+
+			Map<Object, Boolean> curiedEmbeds = getCuriedEmbeds(provider);
+			Boolean result = curiedEmbeds.get(owner);
+
+			if (result != null) {
+				return result;
+			}
+
+			// Streaming content can only be inspected while it's written
+			if (!(owner instanceof Resources) || owner instanceof StreamingResources) {
+				return false;
+			}
+
+			result = hasCuriedEmbed((Resources<?>) owner);
+			curiedEmbeds.put(owner, result);
+
+			return result;
+		}
+
+		/**
+		 * Returns the flags whether embeds are namespaced, keyed by their owners, for the current serialization.
+		 * 
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 */
+		@SuppressWarnings("unchecked")
+		private static Map<Object, Boolean> getCuriedEmbeds(SerializerProvider provider) {
+
+			Map<Object, Boolean> curiedEmbeds = (Map<Object, Boolean>) provider.getAttribute(CURIED_EMBEDS_ATTRIBUTE);
+
+			if (curiedEmbeds == null) {
+				curiedEmbeds = new IdentityHashMap<Object, Boolean>();
+				provider.setAttribute(CURIED_EMBEDS_ATTRIBUTE, curiedEmbeds);
+			}
+
+			return curiedEmbeds;
+		}
+
 		/**
 		 * Returns whether the given source elements will be namespaced.
 		 * 
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * {@link HalLinkDiscoverer} that reads the representation as stream of Jackson {@link JsonToken}s instead of building
+ * an object tree for the entire document. Only the root level {@code _links} object is inspected, all other root level
+ * properties, in particular {@code _embedded}, are skipped without being materialized and parsing stops as soon as the
+ * requested links have been found. Links for multiple relation types are read in a single pass.
+ * <p>
+ * Unlike {@link HalLinkDiscoverer}, which evaluates {@code $._links..['<rel>']..href} and thus also finds relation
+ * types and {@code href}s nested deeper inside {@code _links}, only the link objects (or arrays of them) directly
+ * registered under a relation type in the root level {@code _links} are considered. For HAL compliant documents both
+ * yield the same links. The discoverer is not registered by default, configure it explicitly, e.g. via
+ * {@link org.springframework.hateoas.client.Traverson#setLinkDiscoverers(List)} or by registering a
+ * {@link org.springframework.hateoas.LinkDiscoverers} instance containing it.
+ * <p>
+ * Representations that can't be read by Jackson, e.g. JSON containing trailing commas, are handed to the
+ * {@link com.jayway.jsonpath.JsonPath} based implementation of {@link HalLinkDiscoverer}. For {@link InputStream}s
+ * this is only possible if Jackson fails within the first {@value #FALLBACK_READ_LIMIT} bytes read, as only those are
+ * retained to be re-read. Failures beyond that are reported as exception instead of buffering the entire response.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+public class StreamingHalLinkDiscoverer extends HalLinkDiscoverer {
+
+	private static final String LINKS = "_links";
+	private static final String HREF = "href";
+	private static final int FALLBACK_READ_LIMIT = 8192;
+
+	private static final JsonFactory FACTORY = new JsonFactory() //
+			.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES) //
+			.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES) //
+			.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinkWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public Link findLinkWithRel(String rel, String representation) {
+
+		try {
+			return getFirst(findLinks(Collections.singleton(rel), representation, true));
+		} catch (JsonProcessingException o_O) {
+			return getFirst(super.findLinksWithRel(rel, representation));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinkWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public Link findLinkWithRel(String rel, InputStream representation) {
+
+		InputStream source = markable(representation);
+
+		try {
+			return getFirst(findLinks(Collections.singleton(rel), source, true));
+		} catch (JsonProcessingException o_O) {
+			return getFirst(super.findLinksWithRel(rel, reset(source, o_O)));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, String representation) {
+
+		try {
+			return Collections.unmodifiableList(findLinks(Collections.singleton(rel), representation, false));
+		} catch (JsonProcessingException o_O) {
+			return super.findLinksWithRel(rel, representation);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, InputStream representation) {
+
+		InputStream source = markable(representation);
+
+		try {
+			return Collections.unmodifiableList(findLinks(Collections.singleton(rel), source, false));
+		} catch (JsonProcessingException o_O) {
+			return super.findLinksWithRel(rel, reset(source, o_O));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
+	 */
+	@Override
+	public Links findLinksWithRels(Collection<String> rels, String representation) {
+
+		Assert.notNull(rels, "Relation types must not be null!");
+
+		try {
+			return new Links(findLinks(new HashSet<String>(rels), representation, false));
+		} catch (JsonProcessingException o_O) {
+			return super.findLinksWithRels(rels, representation);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
+	 */
+	@Override
+	public Links findLinksWithRels(Collection<String> rels, InputStream representation) {
+
+		Assert.notNull(rels, "Relation types must not be null!");
+
+		InputStream source = markable(representation);
+
+		try {
+			return new Links(findLinks(new HashSet<String>(rels), source, false));
+		} catch (JsonProcessingException o_O) {
+			return super.findLinksWithRels(rels, reset(source, o_O));
+		}
+	}
+
+	private static List<Link> findLinks(Set<String> rels, String representation, boolean firstOnly)
+			throws JsonProcessingException {
+
+		try {
+			return findLinks(rels, FACTORY.createParser(representation), firstOnly);
+		} catch (JsonProcessingException o_O) {
+			throw o_O;
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
+
+	private static List<Link> findLinks(Set<String> rels, InputStream representation, boolean firstOnly)
+			throws JsonProcessingException {
+
+		try {
+			return findLinks(rels, FACTORY.createParser(representation), firstOnly);
+		} catch (JsonProcessingException o_O) {
+			throw o_O;
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
+
+	/**
+	 * Reads the links with the given relation types from the root level {@code _links} object.
+	 *
+	 * @param rels the relation types to look for.
+	 * @param parser the {@link JsonParser} to read the representation from.
+	 * @param firstOnly whether to stop parsing after the first link has been found.
+	 * @return will never be {@literal null}.
+	 * @throws IOException
+	 */
+	private static List<Link> findLinks(Set<String> rels, JsonParser parser, boolean firstOnly) throws IOException {
+
+		try {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return Collections.emptyList();
+			}
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String name = parser.getCurrentName();
+
+				if (parser.nextToken() == JsonToken.START_OBJECT && LINKS.equals(name)) {
+					return findLinksInLinksObject(rels, parser, firstOnly);
+				}
+
+				parser.skipChildren();
+			}
+
+			return Collections.emptyList();
+
+		} finally {
+			parser.close();
+		}
+	}
+
+	/**
+	 * Reads the links with the given relation types from the {@code _links} object the given {@link JsonParser} is
+	 * positioned at. Stops reading once all relation types have been seen.
+	 */
+	private static List<Link> findLinksInLinksObject(Set<String> rels, JsonParser parser, boolean firstOnly)
+			throws IOException {
+
+		List<Link> links = new ArrayList<Link>();
+		int remaining = rels.size();
+
+		while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String rel = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if (!rels.contains(rel)) {
+				parser.skipChildren();
+				continue;
+			}
+
+			remaining--;
+
+			if (token == JsonToken.START_OBJECT) {
+
+				String href = readHref(parser, firstOnly);
+
+				if (href != null) {
+					links.add(new Link(href, rel));
+				}
+
+			} else if (token == JsonToken.START_ARRAY) {
+
+				while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+
+					if (token != JsonToken.START_OBJECT) {
+						parser.skipChildren();
+						continue;
+					}
+
+					String href = readHref(parser, firstOnly);
+
+					if (href != null) {
+
+						links.add(new Link(href, rel));
+
+						if (firstOnly) {
+							return links;
+						}
+					}
+				}
+			}
+
+			if (firstOnly && !links.isEmpty()) {
+				return links;
+			}
+		}
+
+		return links;
+	}
+
+	/**
+	 * Reads the {@code href} property of the link object the given {@link JsonParser} is currently positioned at.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param stopAtHref whether to stop reading once the {@code href} was found instead of consuming the entire object.
+	 * @return the {@code href} or {@literal null} if the object doesn't contain one.
+	 * @throws IOException
+	 */
+	private static String readHref(JsonParser parser, boolean stopAtHref) throws IOException {
+
+		String href = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if (href == null && HREF.equals(name) && token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+
+				href = parser.getText();
+
+				if (stopAtHref) {
+					return href;
+				}
+
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		return href;
+	}
+
+	private static Link getFirst(List<Link> links) {
+		return links.isEmpty() ? null : links.get(0);
+	}
+
+	/**
+	 * Returns an {@link InputStream} for the given one that supports {@link InputStream#reset()} and marks its current
+	 * position, so that the bytes read can be handed to the fallback in case Jackson can't parse them. Only the first
+	 * {@value #FALLBACK_READ_LIMIT} bytes are retained for that.
+	 */
+	private static InputStream markable(InputStream representation) {
+
+		InputStream source = representation.markSupported() ? representation : new BufferedInputStream(representation);
+		source.mark(FALLBACK_READ_LIMIT);
+
+		return source;
+	}
+
+	/**
+	 * Resets the given {@link InputStream} to hand it to the fallback. Rethrows the given parsing failure in case the
+	 * stream can't be reset, i.e. more than {@value #FALLBACK_READ_LIMIT} bytes have been read already.
+	 */
+	private static InputStream reset(InputStream source, JsonProcessingException cause) {
+
+		try {
+			source.reset();
+			return source;
+		} catch (IOException o_O) {
+			throw new RuntimeException(cause);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -49,6 +50,8 @@ class AnnotatedParametersParameterAccessor {
 			16, ReferenceType.WEAK);
 
 	private final @NonNull AnnotationAttribute attribute;
+	private final Map<Method, List<AnnotatedParameter>> annotatedParametersCache = new ConcurrentReferenceHashMap<Method, List<AnnotatedParameter>>(
+			16, ReferenceType.WEAK);
 
 	/**
 	 * Returns {@link BoundMethodParameter}s contained in the given {@link MethodInvocation}.
@@ -60,17 +63,24 @@ class AnnotatedParametersParameterAccessor {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		MethodParameters parameters = getOrCreateMethodParametersFor(invocation.getMethod());
+		List<AnnotatedParameter> parameters = getAnnotatedParameters(invocation.getMethod());
+
+		if (parameters.isEmpty()) {
+			return Collections.emptyList();
+		}
+
 		Object[] arguments = invocation.getArguments();
-		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>();
+		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>(parameters.size());
+
+		for (AnnotatedParameter parameter : parameters) {
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+			MethodParameter methodParameter = parameter.getParameter();
 
-			Object value = arguments[parameter.getParameterIndex()];
-			Object verifiedValue = verifyParameterValue(parameter, value);
+			Object value = arguments[methodParameter.getParameterIndex()];
+			Object verifiedValue = verifyParameterValue(methodParameter, value);
 
 			if (verifiedValue != null) {
-				result.add(createParameter(parameter, verifiedValue, attribute));
+				result.add(createParameter(parameter, verifiedValue));
 			}
 		}
 
@@ -78,17 +88,44 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Create the {@link BoundMethodParameter} for the given {@link MethodParameter}, parameter value and
-	 * {@link AnnotationAttribute}.
+	 * Returns the {@link AnnotatedParameter}s of the given {@link Method}, i.e. the {@link MethodParameter}s carrying the
+	 * configured annotation alongside the template variable name and {@link TypeDescriptor} resolved for them. The
+	 * result is computed once per {@link Method} and cached.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	List<AnnotatedParameter> getAnnotatedParameters(Method method) {
+
+		List<AnnotatedParameter> parameters = annotatedParametersCache.get(method);
+
+		if (parameters != null) {
+			return parameters;
+		}
+
+		List<MethodParameter> annotated = getOrCreateMethodParametersFor(method)
+				.getParametersWith(attribute.getAnnotationType());
+		List<AnnotatedParameter> result = new ArrayList<AnnotatedParameter>(annotated.size());
+
+		for (MethodParameter parameter : annotated) {
+			result.add(new AnnotatedParameter(parameter, attribute));
+		}
+
+		parameters = Collections.unmodifiableList(result);
+		annotatedParametersCache.put(method, parameters);
+
+		return parameters;
+	}
+
+	/**
+	 * Create the {@link BoundMethodParameter} for the given {@link AnnotatedParameter} and parameter value.
 	 * 
 	 * @param parameter must not be {@literal null}.
 	 * @param value can be {@literal null}.
-	 * @param attribute must not be {@literal null}.
 	 * @return
 	 */
-	protected BoundMethodParameter createParameter(MethodParameter parameter, Object value,
-			AnnotationAttribute attribute) {
-		return new BoundMethodParameter(parameter, value, attribute);
+	protected BoundMethodParameter createParameter(AnnotatedParameter parameter, Object value) {
+		return new BoundMethodParameter(parameter, value);
 	}
 
 	/**
@@ -117,12 +154,72 @@ class AnnotatedParametersParameterAccessor {
 			return methodParameters;
 		}
 
-		methodParameters = new MethodParameters(method);
+		methodParameters = new MethodParameters(method, null, ControllerMappings.PARAMETER_NAME_DISCOVERER);
 		METHOD_PARAMETERS_CACHE.put(method, methodParameters);
 
 		return methodParameters;
 	}
 
+	/**
+	 * A {@link MethodParameter} carrying the annotation an {@link AnnotatedParametersParameterAccessor} looks for with the
+	 * template variable name and {@link TypeDescriptor} already resolved.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class AnnotatedParameter {
+
+		private final MethodParameter parameter;
+		private final AnnotationAttribute attribute;
+		private final String variableName;
+		private final TypeDescriptor typeDescriptor;
+
+		/**
+		 * Creates a new {@link AnnotatedParameter} for the given {@link MethodParameter} and {@link AnnotationAttribute}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 */
+		AnnotatedParameter(MethodParameter parameter, AnnotationAttribute attribute) {
+
+			Assert.notNull(parameter, "MethodParameter must not be null!");
+
+			this.parameter = parameter;
+			this.attribute = attribute;
+			this.variableName = getVariableName(parameter, attribute);
+			this.typeDescriptor = TypeDescriptor.nested(parameter, 0);
+		}
+
+		/**
+		 * Returns the underlying {@link MethodParameter}.
+		 * 
+		 * @return
+		 */
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		/**
+		 * Returns the name of the template variable the parameter is bound to.
+		 * 
+		 * @return
+		 */
+		public String getVariableName() {
+			return variableName;
+		}
+
+		private static String getVariableName(MethodParameter parameter, AnnotationAttribute attribute) {
+
+			if (attribute == null) {
+				return parameter.getParameterName();
+			}
+
+			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
+			String annotationAttributeValue = attribute.getValueFrom(annotation);
+
+			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+		}
+	}
+
 	/**
 	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
 	 * 
@@ -133,10 +230,8 @@ class AnnotatedParametersParameterAccessor {
 		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
 		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
 
-		private final MethodParameter parameter;
+		private final AnnotatedParameter parameter;
 		private final Object value;
-		private final AnnotationAttribute attribute;
-		private final TypeDescriptor parameterTypeDescriptor;
 
 		/**
 		 * Creates a new {@link BoundMethodParameter}
@@ -146,13 +241,21 @@ class AnnotatedParametersParameterAccessor {
 		 * @param attribute
 		 */
 		public BoundMethodParameter(MethodParameter parameter, Object value, AnnotationAttribute attribute) {
+			this(new AnnotatedParameter(parameter, attribute), value);
+		}
 
-			Assert.notNull(parameter, "MethodParameter must not be null!");
+		/**
+		 * Creates a new {@link BoundMethodParameter} for the given pre-resolved {@link AnnotatedParameter}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param value can be {@literal null}.
+		 */
+		BoundMethodParameter(AnnotatedParameter parameter, Object value) {
+
+			Assert.notNull(parameter, "AnnotatedParameter must not be null!");
 
 			this.parameter = parameter;
 			this.value = value;
-			this.attribute = attribute;
-			this.parameterTypeDescriptor = TypeDescriptor.nested(parameter, 0);
 		}
 
 		/**
@@ -162,15 +265,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String getVariableName() {
-
-			if (attribute == null) {
-				return parameter.getParameterName();
-			}
-
-			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
-			String annotationAttributeValue = attribute.getValueFrom(annotation);
-
-			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+			return parameter.getVariableName();
 		}
 
 		/**
@@ -189,7 +284,7 @@ class AnnotatedParametersParameterAccessor {
 		 */
 		public String asString() {
 			return value == null ? null
-					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+					: (String) CONVERSION_SERVICE.convert(value, parameter.typeDescriptor, STRING_DESCRIPTOR);
 		}
 
 		/**
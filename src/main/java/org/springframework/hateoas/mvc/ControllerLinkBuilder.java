@@ -18,6 +18,7 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.util.StringUtils.*;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.experimental.Delegate;
 
 import java.lang.reflect.Method;
@@ -28,13 +29,17 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TemplateVariables;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodReferences;
+import org.springframework.hateoas.core.MethodReferences.MethodReference0;
+import org.springframework.hateoas.core.MethodReferences.MethodReference1;
+import org.springframework.hateoas.core.MethodReferences.MethodReference2;
+import org.springframework.hateoas.core.MethodReferences.MethodReference3;
+import org.springframework.hateoas.core.MethodReferences.MethodReference4;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
-import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -43,6 +48,7 @@ import org.springframework.web.util.DefaultUriTemplateHandler;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.util.UriTemplate;
+import org.springframework.web.util.WebUtils;
 
 /**
  * Builder to ease building {@link Link} instances pointing to Spring MVC controllers.
@@ -57,9 +63,17 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuilder> {
 
+	/**
+	 * Name of the request attribute the base URI of all links built during a request is cached under, together with the
+	 * dispatch it was calculated for.
+	 * 
+	 * @see #exposeBaseUri(HttpServletRequest, UriComponents)
+	 */
+	static final String BASE_URI_ATTRIBUTE = ControllerLinkBuilder.class.getName().concat(".BASE_URI");
+
 	private static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
-	private static final CachingAnnotationMappingDiscoverer DISCOVERER = new CachingAnnotationMappingDiscoverer(
-			new AnnotationMappingDiscoverer(RequestMapping.class));
+	private static final CachingMappingDiscoverer DISCOVERER = new CachingMappingDiscoverer(
+			new ControllerMappingDiscoverer());
 	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
 	private static final CustomUriTemplateHandler HANDLER = new CustomUriTemplateHandler();
 
@@ -194,6 +208,87 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference.
+	 * In contrast to {@link #linkTo(Object)} this doesn't require any runtime proxies to be created.
+	 * 
+	 * <pre>
+	 * Link link = linkTo(CustomerController::showAddresses, 2L).withRel("addresses");
+	 * </pre>
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see MethodReferences
+	 */
+	public static <T> ControllerLinkBuilder linkTo(MethodReference0<T> reference) {
+		return FACTORY.linkTo(reference);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * invoked with the given argument.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1> ControllerLinkBuilder linkTo(MethodReference1<T, P1> reference, P1 first) {
+		return FACTORY.linkTo(reference, first);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * invoked with the given arguments.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @param second can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1, P2> ControllerLinkBuilder linkTo(MethodReference2<T, P1, P2> reference, P1 first, P2 second) {
+		return FACTORY.linkTo(reference, first, second);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * invoked with the given arguments.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @param second can be {@literal null}.
+	 * @param third can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1, P2, P3> ControllerLinkBuilder linkTo(MethodReference3<T, P1, P2, P3> reference, P1 first,
+			P2 second, P3 third) {
+		return FACTORY.linkTo(reference, first, second, third);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given method reference
+	 * invoked with the given arguments.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @param second can be {@literal null}.
+	 * @param third can be {@literal null}.
+	 * @param fourth can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1, P2, P3, P4> ControllerLinkBuilder linkTo(MethodReference4<T, P1, P2, P3, P4> reference,
+			P1 first, P2 second, P3 third, P4 fourth) {
+		return FACTORY.linkTo(reference, first, second, third, fourth);
+	}
+
 	/**
 	 * Wrapper for {@link DummyInvocationUtils#methodOn(Class, Object...)} to be available in case you work with static
 	 * imports of {@link ControllerLinkBuilder}.
@@ -206,6 +301,19 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return DummyInvocationUtils.methodOn(controller, parameters);
 	}
 
+	/**
+	 * Wrapper for {@link DummyInvocationUtils#sharedMethodOn(Class, Object...)} to be available in case you work with
+	 * static imports of {@link ControllerLinkBuilder}.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 0.24
+	 */
+	public static <T> T sharedMethodOn(Class<T> controller, Object... parameters) {
+		return DummyInvocationUtils.sharedMethodOn(controller, parameters);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.UriComponentsLinkBuilder#getThis()
@@ -258,7 +366,9 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
 	 * request contains an {@code X-Forwarded-Ssl} header, which is not (yet) supported by the underlying
 	 * {@link UriComponentsBuilder}. If no {@link RequestContextHolder} exists (you're outside a Spring Web call), fall
-	 * back to relative URIs.
+	 * back to relative URIs. The base URI is only calculated once per dispatch of a request and exposed as request
+	 * attribute under {@link #BASE_URI_ATTRIBUTE}. Forward, include and error dispatches recalculate it, as do
+	 * dispatches to a different servlet.
 	 * 
 	 * @return
 	 */
@@ -269,6 +379,50 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		}
 
 		HttpServletRequest request = getCurrentRequest();
+		String dispatch = getDispatch(request);
+		Object cached = request.getAttribute(BASE_URI_ATTRIBUTE);
+
+		UriComponents baseUri = cached instanceof CachedBaseUri && ((CachedBaseUri) cached).getDispatch().equals(dispatch)
+				? ((CachedBaseUri) cached).getUri() : null;
+
+		if (baseUri == null) {
+			baseUri = getBaseUri(request);
+			request.setAttribute(BASE_URI_ATTRIBUTE, new CachedBaseUri(dispatch, baseUri));
+		}
+
+		return UriComponentsBuilder.newInstance().uriComponents(baseUri);
+	}
+
+	/**
+	 * Registers the given {@link UriComponents} as base URI for all links built during the current dispatch of the given
+	 * request. Allows the base URI to be pre-populated, e.g. from a servlet filter, to avoid inspecting the request's
+	 * forwarding headers. Forward, include and error dispatches as well as dispatches to a different servlet fall back
+	 * to calculating the base URI themselves.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @since 0.24
+	 */
+	public static void exposeBaseUri(HttpServletRequest request, UriComponents baseUri) {
+
+		Assert.notNull(request, "Request must not be null!");
+		Assert.notNull(baseUri, "Base URI must not be null!");
+
+		request.setAttribute(BASE_URI_ATTRIBUTE, new CachedBaseUri(getDispatch(request), baseUri));
+	}
+
+	/**
+	 * Calculates the base URI for links built during the given request, i.e. scheme, host, port, context and servlet
+	 * path considering the {@code Forwarded} and {@code X-Forwarded-*} headers.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	public static UriComponents getBaseUri(HttpServletRequest request) {
+
+		Assert.notNull(request, "Request must not be null!");
+
 		UriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
 
 		// special case handling for X-Forwarded-Ssl:
@@ -282,7 +436,27 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 			builder.scheme("https");
 		}
 
-		return builder;
+		return builder.build();
+	}
+
+	/**
+	 * Returns a key identifying the current dispatch of the given request, i.e. the dispatch type as indicated by the
+	 * request attributes the container exposes for forwards, includes and error dispatches, plus the context and servlet
+	 * path the request is dispatched to.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private static String getDispatch(HttpServletRequest request) {
+
+		String type = request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null ? "INCLUDE"
+				: request.getAttribute(WebUtils.ERROR_REQUEST_URI_ATTRIBUTE) != null ? "ERROR"
+						: request.getAttribute(WebUtils.FORWARD_REQUEST_URI_ATTRIBUTE) != null ? "FORWARD" : "REQUEST";
+
+		String servletPath = request.getAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE) != null
+				? request.getAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE).toString() : request.getServletPath();
+
+		return type.concat(" ").concat(request.getContextPath()).concat(servletPath);
 	}
 
 	/**
@@ -301,10 +475,22 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return servletRequest;
 	}
 
+	/**
+	 * Base URI cached in a request attribute together with the dispatch it was calculated for.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class CachedBaseUri {
+
+		String dispatch;
+		UriComponents uri;
+	}
+
 	@RequiredArgsConstructor
-	private static class CachingAnnotationMappingDiscoverer implements MappingDiscoverer {
+	private static class CachingMappingDiscoverer implements MappingDiscoverer {
 
-		private final @Delegate AnnotationMappingDiscoverer delegate;
+		private final @Delegate MappingDiscoverer delegate;
 		private final Map<String, UriTemplate> templates = new ConcurrentReferenceHashMap<String, UriTemplate>();
 
 		public UriTemplate getMappingAsUriTemplate(Class<?> type, Method method) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,11 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.TemplateVariable.VariableType.*;
 import static org.springframework.hateoas.TemplateVariables.*;
 import static org.springframework.hateoas.core.EncodingUtils.*;
+import static org.springframework.hateoas.core.MethodReferences.*;
 import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
 
+import lombok.Value;
+
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,17 +39,23 @@ import org.springframework.hateoas.MethodLinkBuilderFactory;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.core.MethodReferences.MethodReference0;
+import org.springframework.hateoas.core.MethodReferences.MethodReference1;
+import org.springframework.hateoas.core.MethodReferences.MethodReference2;
+import org.springframework.hateoas.core.MethodReferences.MethodReference3;
+import org.springframework.hateoas.core.MethodReferences.MethodReference4;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.AnnotatedParameter;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.util.UriComponents;
@@ -67,7 +76,7 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<ControllerLinkBuilder> {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final MappingDiscoverer DISCOVERER = new ControllerMappingDiscoverer();
 	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
 			new AnnotationAttribute(PathVariable.class));
 	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
@@ -131,16 +140,118 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
 		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
 
-		MethodInvocation invocation = invocations.getLastInvocation();
-		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
+		try {
+			return linkTo(invocations.getLastInvocation(), invocations.getObjectParameters());
+		} finally {
+			DummyInvocationUtils.releaseSharedInvocation();
+		}
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given
+	 * {@link MethodReference0}.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see ControllerLinkBuilder#linkTo(MethodReference0)
+	 */
+	public <T> ControllerLinkBuilder linkTo(MethodReference0<T> reference) {
+		return linkTo(invocationOf(reference));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given
+	 * {@link MethodReference1} invoked with the given argument.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see ControllerLinkBuilder#linkTo(MethodReference1, Object)
+	 */
+	public <T, P1> ControllerLinkBuilder linkTo(MethodReference1<T, P1> reference, P1 first) {
+		return linkTo(invocationOf(reference, first));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given
+	 * {@link MethodReference2} invoked with the given arguments.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @param second can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see ControllerLinkBuilder#linkTo(MethodReference2, Object, Object)
+	 */
+	public <T, P1, P2> ControllerLinkBuilder linkTo(MethodReference2<T, P1, P2> reference, P1 first, P2 second) {
+		return linkTo(invocationOf(reference, first, second));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given
+	 * {@link MethodReference3} invoked with the given arguments.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @param second can be {@literal null}.
+	 * @param third can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see ControllerLinkBuilder#linkTo(MethodReference3, Object, Object, Object)
+	 */
+	public <T, P1, P2, P3> ControllerLinkBuilder linkTo(MethodReference3<T, P1, P2, P3> reference, P1 first, P2 second,
+			P3 third) {
+		return linkTo(invocationOf(reference, first, second, third));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method referred to by the given
+	 * {@link MethodReference4} invoked with the given arguments.
+	 * 
+	 * @param reference must not be {@literal null}.
+	 * @param first can be {@literal null}.
+	 * @param second can be {@literal null}.
+	 * @param third can be {@literal null}.
+	 * @param fourth can be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see ControllerLinkBuilder#linkTo(MethodReference4, Object, Object, Object, Object)
+	 */
+	public <T, P1, P2, P3, P4> ControllerLinkBuilder linkTo(MethodReference4<T, P1, P2, P3, P4> reference, P1 first,
+			P2 second, P3 third, P4 fourth) {
+		return linkTo(invocationOf(reference, first, second, third, fourth));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} for the given {@link MethodInvocation}.
+	 * 
+	 * @param invocation must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	public ControllerLinkBuilder linkTo(MethodInvocation invocation) {
+		return linkTo(invocation, Collections.emptyList().iterator());
+	}
+
+	/**
+	 * Binds the given {@link MethodInvocation} and type-level mapping parameters to the mapping of the invoked method.
+	 * 
+	 * @param invocation must not be {@literal null}.
+	 * @param classMappingParameters must not be {@literal null}.
+	 * @return
+	 */
+	private ControllerLinkBuilder linkTo(MethodInvocation invocation, Iterator<Object> classMappingParameters) {
+
+		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		MethodLinkTemplate template = MethodLinkTemplate.of(invocation.getTargetType(), invocation.getMethod());
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(template.getMapping());
 
-		UriTemplate template = new UriTemplate(mapping);
-		Map<String, Object> values = new HashMap<String, Object>();
-		Iterator<String> names = template.getVariableNames().iterator();
+		List<String> variableNames = template.getVariableNames();
+		Map<String, Object> values = new HashMap<String, Object>(variableNames.size() * 2);
+		Iterator<String> names = variableNames.iterator();
 
 		while (classMappingParameters.hasNext()) {
 			values.put(names.next(), encodePath(classMappingParameters.next()));
@@ -166,7 +277,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			}
 		}
 
-		for (String variable : template.getVariableNames()) {
+		for (String variable : variableNames) {
 			if (!values.containsKey(variable)) {
 				values.put(variable, SKIP_VALUE);
 			}
@@ -205,7 +316,12 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
 			MethodInvocation invocation) {
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
+		if (uriComponentsContributors.isEmpty()) {
+			return builder;
+		}
+
+		MethodParameters parameters = MethodLinkTemplate.of(invocation.getTargetType(), invocation.getMethod())
+				.getParameters();
 		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
 
 		for (MethodParameter parameter : parameters.getParameters()) {
@@ -282,13 +398,14 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 
 		/* 
 		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createParameter(org.springframework.core.MethodParameter, java.lang.Object, org.springframework.hateoas.core.AnnotationAttribute)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createParameter(org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.AnnotatedParameter, java.lang.Object)
 		 */
 		@Override
-		protected BoundMethodParameter createParameter(final MethodParameter parameter, Object value,
-				AnnotationAttribute attribute) {
+		protected BoundMethodParameter createParameter(AnnotatedParameter annotatedParameter, Object value) {
 
-			return new BoundMethodParameter(parameter, value, attribute) {
+			final MethodParameter parameter = annotatedParameter.getParameter();
+
+			return new BoundMethodParameter(annotatedParameter, value) {
 
 				/* 
 				 * (non-Javadoc)
@@ -329,4 +446,81 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			return annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE) ? SKIP_VALUE : null;
 		}
 	}
+
+	/**
+	 * Pre-computed information about the mapping of a controller method: the mapping itself, the template variables it
+	 * contains and the {@link MethodParameters} of the method. Instances are created once per controller type and
+	 * {@link Method} so that building a link to a method invocation only has to bind the invocation's argument values.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class MethodLinkTemplate {
+
+		private static final Map<CacheKey, MethodLinkTemplate> CACHE = new ConcurrentReferenceHashMap<CacheKey, MethodLinkTemplate>();
+
+		private final String mapping;
+		private final List<String> variableNames;
+		private final MethodParameters parameters;
+
+		private MethodLinkTemplate(Class<?> type, Method method) {
+
+			this.mapping = DISCOVERER.getMapping(type, method);
+			this.variableNames = Collections.unmodifiableList(new UriTemplate(mapping).getVariableNames());
+			this.parameters = new MethodParameters(method, null, ControllerMappings.PARAMETER_NAME_DISCOVERER);
+		}
+
+		/**
+		 * Returns the {@link MethodLinkTemplate} for the given {@link Method} invoked on the given type.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param method must not be {@literal null}.
+		 * @return
+		 */
+		public static MethodLinkTemplate of(Class<?> type, Method method) {
+
+			CacheKey key = new CacheKey(type, method);
+			MethodLinkTemplate template = CACHE.get(key);
+
+			if (template == null) {
+				template = new MethodLinkTemplate(type, method);
+				CACHE.put(key, template);
+			}
+
+			return template;
+		}
+
+		/**
+		 * Returns the raw mapping including the type-level one.
+		 * 
+		 * @return
+		 */
+		public String getMapping() {
+			return mapping;
+		}
+
+		/**
+		 * Returns the names of the template variables contained in the mapping in the order of their declaration.
+		 * 
+		 * @return
+		 */
+		public List<String> getVariableNames() {
+			return variableNames;
+		}
+
+		/**
+		 * Returns the {@link MethodParameters} of the mapped method.
+		 * 
+		 * @return
+		 */
+		public MethodParameters getParameters() {
+			return parameters;
+		}
+
+		@Value
+		private static class CacheKey {
+
+			Class<?> type;
+			Method method;
+		}
+	}
 }
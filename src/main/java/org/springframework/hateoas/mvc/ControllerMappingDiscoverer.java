@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.lang.reflect.Method;
+
+import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.mvc.ControllerMappings.MethodMapping;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * {@link MappingDiscoverer} for Spring MVC controllers that uses the {@link ControllerMappings} generated at compile
+ * time if present and falls back to inspecting the {@link RequestMapping} annotations otherwise.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+class ControllerMappingDiscoverer implements MappingDiscoverer {
+
+	private final MappingDiscoverer delegate = new AnnotationMappingDiscoverer(RequestMapping.class);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class)
+	 */
+	@Override
+	public String getMapping(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		ControllerMappings mappings = ControllerMappings.of(type);
+
+		return mappings == null ? delegate.getMapping(type) : mappings.getMapping();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return getMapping(method.getDeclaringClass(), method);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		ControllerMappings mappings = ControllerMappings.of(type);
+		MethodMapping mapping = mappings == null ? null : mappings.getMethodMapping(method);
+
+		return mapping == null ? delegate.getMapping(type, method) : mapping.getMapping();
+	}
+}
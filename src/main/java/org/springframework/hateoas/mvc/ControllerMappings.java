@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.PrioritizedParameterNameDiscoverer;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Base class for the mapping metadata {@link ControllerMappingsProcessor} generates for Spring MVC controllers at
+ * compile time. For a controller {@code com.acme.CustomerController} the processor generates a
+ * {@code com.acme.CustomerController_Mappings} that contains the type-level mapping as well as the full mapping and
+ * parameter names of all handler methods declared in the controller. If present, {@link ControllerLinkBuilder} and
+ * {@link ControllerLinkBuilderFactory} use it instead of looking up the mappings and parameter names via reflection.
+ * The generated metadata doesn't cover how parameters are bound, so {@code @PathVariable} and {@code @RequestParam}
+ * are still read from the parameter annotations. Methods without generated metadata fall back to the reflective
+ * lookup entirely.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+public abstract class ControllerMappings {
+
+	static final String SUFFIX = "_Mappings";
+
+	/**
+	 * A {@link ParameterNameDiscoverer} that prefers the parameter names captured in generated {@link ControllerMappings}
+	 * and falls back to the default discovery otherwise.
+	 */
+	static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER;
+
+	private static final ControllerMappings NONE = new ControllerMappings(null) {};
+	private static final Map<Class<?>, ControllerMappings> CACHE = new ConcurrentReferenceHashMap<Class<?>, ControllerMappings>(
+			16, ReferenceType.WEAK);
+
+	static {
+
+		PrioritizedParameterNameDiscoverer discoverer = new PrioritizedParameterNameDiscoverer();
+		discoverer.addDiscoverer(new GeneratedParameterNameDiscoverer());
+		discoverer.addDiscoverer(new DefaultParameterNameDiscoverer());
+
+		PARAMETER_NAME_DISCOVERER = discoverer;
+	}
+
+	private final String mapping;
+	private final Map<String, MethodMapping> methods = new HashMap<String, MethodMapping>();
+
+	/**
+	 * Creates a new {@link ControllerMappings} for the given type-level mapping.
+	 *
+	 * @param mapping can be {@literal null}.
+	 */
+	protected ControllerMappings(String mapping) {
+		this.mapping = mapping;
+	}
+
+	/**
+	 * Registers the mapping for the method with the given signature. To be called from the constructor of the generated
+	 * subclasses only.
+	 *
+	 * @param signature the method name followed by the comma separated binary names of the erased parameter types in
+	 *          parentheses, must not be {@literal null}.
+	 * @param mapping the full mapping of the method including the type-level one, can be {@literal null}.
+	 * @param parameterNames the names of all parameters of the method, must not be {@literal null}.
+	 */
+	protected final void method(String signature, String mapping, String... parameterNames) {
+
+		Assert.hasText(signature, "Signature must not be null or empty!");
+		Assert.notNull(parameterNames, "Parameter names must not be null!");
+
+		methods.put(signature, new MethodMapping(mapping, parameterNames));
+	}
+
+	/**
+	 * Returns the type-level mapping.
+	 *
+	 * @return the type-level mapping or {@literal null} in case none is present.
+	 */
+	public String getMapping() {
+		return mapping;
+	}
+
+	/**
+	 * Returns the {@link MethodMapping} for the given {@link Method}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return the {@link MethodMapping} or {@literal null} if no metadata was generated for the given {@link Method}.
+	 */
+	public MethodMapping getMethodMapping(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return methods.isEmpty() ? null : methods.get(getSignature(method));
+	}
+
+	/**
+	 * Returns the generated {@link ControllerMappings} for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link ControllerMappings} or {@literal null} in case none were generated for the given type.
+	 */
+	public static ControllerMappings of(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		ControllerMappings mappings = CACHE.get(type);
+
+		if (mappings == null) {
+			mappings = load(type);
+			CACHE.put(type, mappings);
+		}
+
+		return mappings == NONE ? null : mappings;
+	}
+
+	/**
+	 * Returns the name of the class {@link ControllerMappingsProcessor} generates for the controller with the given
+	 * package and (potentially nested) simple name.
+	 *
+	 * @param packageName must not be {@literal null}.
+	 * @param shortName the dot-separated simple names of the type and its enclosing types, must not be {@literal null}.
+	 * @return
+	 */
+	static String getMappingsClassName(String packageName, String shortName) {
+
+		String simpleName = shortName.replace('.', '_').concat(SUFFIX);
+		return packageName.length() == 0 ? simpleName : packageName.concat(".").concat(simpleName);
+	}
+
+	/**
+	 * Returns the signature the given {@link Method} is registered under.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	static String getSignature(Method method) {
+
+		StringBuilder builder = new StringBuilder(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			builder.append(i == 0 ? "" : ",").append(ClassUtils.getQualifiedName(parameterTypes[i]));
+		}
+
+		return builder.append(')').toString();
+	}
+
+	private static ControllerMappings load(Class<?> type) {
+
+		if (type.isArray() || type.isPrimitive()) {
+			return NONE;
+		}
+
+		String name = getMappingsClassName(ClassUtils.getPackageName(type), ClassUtils.getShortName(type));
+		ClassLoader classLoader = type.getClassLoader();
+
+		if (!ClassUtils.isPresent(name, classLoader)) {
+			return NONE;
+		}
+
+		try {
+
+			Class<?> mappingsType = ClassUtils.forName(name, classLoader);
+
+			if (!ControllerMappings.class.isAssignableFrom(mappingsType)) {
+				return NONE;
+			}
+
+			Constructor<?> constructor = mappingsType.getDeclaredConstructor();
+			return (ControllerMappings) BeanUtils.instantiateClass(constructor);
+
+		} catch (ClassNotFoundException o_O) {
+			return NONE;
+		} catch (NoSuchMethodException o_O) {
+			throw new IllegalStateException(String.format("Generated mappings %s need a default constructor!", name), o_O);
+		}
+	}
+
+	/**
+	 * The mapping and parameter names generated for a single handler method.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public static class MethodMapping {
+
+		private final String mapping;
+		private final String[] parameterNames;
+
+		MethodMapping(String mapping, String[] parameterNames) {
+
+			this.mapping = mapping;
+			this.parameterNames = parameterNames.clone();
+		}
+
+		/**
+		 * Returns the full mapping of the method including the type-level one.
+		 *
+		 * @return the mapping or {@literal null} if neither the method nor the type have one.
+		 */
+		public String getMapping() {
+			return mapping;
+		}
+
+		/**
+		 * Returns the names of all parameters of the method.
+		 *
+		 * @return
+		 */
+		public String[] getParameterNames() {
+			return parameterNames.clone();
+		}
+	}
+
+	/**
+	 * {@link ParameterNameDiscoverer} to look up parameter names from generated {@link ControllerMappings}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class GeneratedParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.ParameterNameDiscoverer#getParameterNames(java.lang.reflect.Method)
+		 */
+		@Override
+		public String[] getParameterNames(Method method) {
+
+			ControllerMappings mappings = of(method.getDeclaringClass());
+			MethodMapping mapping = mappings == null ? null : mappings.getMethodMapping(method);
+
+			return mapping == null ? null : mapping.getParameterNames();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.ParameterNameDiscoverer#getParameterNames(java.lang.reflect.Constructor)
+		 */
+		@Override
+		public String[] getParameterNames(Constructor<?> ctor) {
+			return null;
+		}
+	}
+}
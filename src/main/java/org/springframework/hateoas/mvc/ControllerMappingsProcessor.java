@@ -0,0 +1,413 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor to generate {@link ControllerMappings} for Spring MVC controllers at compile time so that
+ * {@link ControllerLinkBuilder} doesn't have to discover the request mappings and parameter names via reflection at
+ * runtime. For every type declaring handler methods annotated with {@code @RequestMapping} (or an annotation
+ * meta-annotated with it, e.g. {@code @GetMapping}) a {@code …_Mappings} class is generated next to it. Like
+ * {@link org.springframework.hateoas.core.AnnotationMappingDiscoverer}, only the first of multiple mappings declared
+ * on a type or method is considered. Parameter bindings are not captured and still looked up reflectively.
+ * <p>
+ * The processor is not registered automatically. Activate it explicitly, e.g. via {@code javac -processor} or the
+ * {@code annotationProcessors} configuration of the Maven compiler plugin.
+ *
+ * @author Oliver Gierke
+ * @since 0.24
+ */
+public class ControllerMappingsProcessor extends AbstractProcessor {
+
+	private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+	private static final List<String> GENERATED_ANNOTATIONS = Arrays.asList("javax.annotation.processing.Generated",
+			"javax.annotation.Generated");
+	private static final Pattern MULTIPLE_SLASHES = Pattern.compile("\\/{2,}");
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			processType(type);
+		}
+
+		return false;
+	}
+
+	private void processType(TypeElement type) {
+
+		for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+			processType(nested);
+		}
+
+		if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.INTERFACE) {
+			return;
+		}
+
+		if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+			return;
+		}
+
+		String typeMapping = findTypeMapping(type);
+		Map<String, ExecutableElement> methods = new LinkedHashMap<String, ExecutableElement>();
+		Map<String, String> mappings = new LinkedHashMap<String, String>();
+
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+
+			if (method.getModifiers().contains(Modifier.STATIC) || method.getModifiers().contains(Modifier.PRIVATE)) {
+				continue;
+			}
+
+			String[] mapping = getMapping(method);
+
+			if (mapping == null) {
+				continue;
+			}
+
+			String signature = getSignature(method);
+
+			methods.put(signature, method);
+			mappings.put(signature, join(typeMapping, mapping));
+		}
+
+		if (methods.isEmpty()) {
+			return;
+		}
+
+		try {
+			write(type, typeMapping, methods, mappings);
+		} catch (IOException o_O) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					String.format("Could not generate controller mappings: %s", o_O.getMessage()), type);
+		}
+	}
+
+	private void write(TypeElement type, String typeMapping, Map<String, ExecutableElement> methods,
+			Map<String, String> mappings) throws IOException {
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String className = ControllerMappings.getMappingsClassName(packageName, getShortName(type));
+		String simpleName = className.substring(className.lastIndexOf('.') + 1);
+
+		JavaFileObject file = processingEnv.getFiler().createSourceFile(className, type);
+		Writer writer = file.openWriter();
+
+		try {
+
+			if (packageName.length() != 0) {
+				writer.append("package ").append(packageName).append(";\n\n");
+			}
+
+			String generated = getGeneratedAnnotation();
+
+			if (generated != null) {
+				writer.append("@").append(generated).append("(\"").append(getClass().getName()).append("\")\n");
+			}
+
+			writer.append("public class ").append(simpleName).append(" extends ")
+					.append(ControllerMappings.class.getName()).append(" {\n\n");
+			writer.append("\tpublic ").append(simpleName).append("() {\n\n");
+			writer.append("\t\tsuper(").append(literal(typeMapping)).append(");\n\n");
+
+			for (Entry<String, ExecutableElement> entry : methods.entrySet()) {
+
+				String signature = entry.getKey();
+
+				writer.append("\t\tmethod(").append(literal(signature)).append(", ")
+						.append(literal(mappings.get(signature)));
+
+				for (VariableElement parameter : entry.getValue().getParameters()) {
+					writer.append(", ").append(literal(parameter.getSimpleName().toString()));
+				}
+
+				writer.append(");\n");
+			}
+
+			writer.append("\t}\n}\n");
+
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Returns the name of the {@code @Generated} annotation available to the sources being compiled. That's
+	 * {@code javax.annotation.processing.Generated} on Java 9 and newer and {@code javax.annotation.Generated} before,
+	 * which was removed from the JDK in Java 9.
+	 *
+	 * @return the name of the annotation or {@literal null} if none is available.
+	 */
+	private String getGeneratedAnnotation() {
+
+		for (String candidate : GENERATED_ANNOTATIONS) {
+			if (processingEnv.getElementUtils().getTypeElement(candidate) != null) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the type-level mapping, looking at the type itself, its interfaces and superclasses in that order.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private String findTypeMapping(TypeElement type) {
+
+		String[] mapping = getMapping(type);
+
+		if (mapping != null) {
+			return mapping.length == 0 ? null : mapping[0];
+		}
+
+		for (TypeMirror candidate : type.getInterfaces()) {
+
+			String result = findTypeMapping((TypeElement) processingEnv.getTypeUtils().asElement(candidate));
+
+			if (result != null) {
+				return result;
+			}
+		}
+
+		TypeMirror superclass = type.getSuperclass();
+
+		return superclass.getKind() == TypeKind.DECLARED
+				? findTypeMapping((TypeElement) processingEnv.getTypeUtils().asElement(superclass)) : null;
+	}
+
+	/**
+	 * Returns the mapping values declared on the given {@link Element} via {@code @RequestMapping} or an annotation
+	 * meta-annotated with it.
+	 *
+	 * @param element must not be {@literal null}.
+	 * @return the mapping values or {@literal null} if the element is not annotated at all.
+	 */
+	private static String[] getMapping(Element element) {
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+
+			if (REQUEST_MAPPING.equals(annotationType.getQualifiedName().toString())) {
+				return getMappingValues(annotation);
+			}
+
+			AnnotationMirror meta = findAnnotation(annotationType, REQUEST_MAPPING);
+
+			if (meta == null) {
+				continue;
+			}
+
+			String[] values = getMappingValues(annotation);
+			return values.length == 0 && !declaresMappingAttribute(annotationType) ? getMappingValues(meta) : values;
+		}
+
+		return null;
+	}
+
+	private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (annotationName.equals(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+					.toString())) {
+				return annotation;
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean declaresMappingAttribute(TypeElement annotationType) {
+
+		for (ExecutableElement attribute : ElementFilter.methodsIn(annotationType.getEnclosedElements())) {
+
+			String name = attribute.getSimpleName().toString();
+
+			if ("value".equals(name) || "path".equals(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static String[] getMappingValues(AnnotationMirror annotation) {
+
+		Object value = null;
+
+		for (Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+				.entrySet()) {
+
+			String name = entry.getKey().getSimpleName().toString();
+
+			if ("value".equals(name) || ("path".equals(name) && value == null)) {
+				value = entry.getValue().getValue();
+			}
+		}
+
+		if (value instanceof String) {
+			return new String[] { (String) value };
+		}
+
+		if (value instanceof List) {
+
+			List<String> result = new ArrayList<String>();
+
+			for (Object element : (List<?>) value) {
+				result.add((String) ((AnnotationValue) element).getValue());
+			}
+
+			return result.toArray(new String[result.size()]);
+		}
+
+		return new String[0];
+	}
+
+	/**
+	 * Joins the type-level and method mapping the same way {@link org.springframework.hateoas.core.AnnotationMappingDiscoverer}
+	 * does.
+	 *
+	 * @param typeMapping can be {@literal null}.
+	 * @param mapping must not be {@literal null}.
+	 * @return
+	 */
+	private static String join(String typeMapping, String[] mapping) {
+
+		if (mapping.length == 0) {
+			return typeMapping;
+		}
+
+		return typeMapping == null || "/".equals(typeMapping) ? mapping[0]
+				: MULTIPLE_SLASHES.matcher(typeMapping.concat("/").concat(mapping[0])).replaceAll("/");
+	}
+
+	private String getSignature(ExecutableElement method) {
+
+		StringBuilder builder = new StringBuilder(method.getSimpleName()).append('(');
+		List<? extends VariableElement> parameters = method.getParameters();
+
+		for (int i = 0; i < parameters.size(); i++) {
+			builder.append(i == 0 ? "" : ",").append(getTypeName(parameters.get(i).asType()));
+		}
+
+		return builder.append(')').toString();
+	}
+
+	private String getTypeName(TypeMirror type) {
+
+		TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+
+		if (erasure.getKind().isPrimitive()) {
+			return erasure.toString();
+		}
+
+		if (erasure.getKind() == TypeKind.ARRAY) {
+			return getTypeName(((ArrayType) erasure).getComponentType()).concat("[]");
+		}
+
+		TypeElement element = (TypeElement) ((DeclaredType) erasure).asElement();
+		return processingEnv.getElementUtils().getBinaryName(element).toString();
+	}
+
+	private static String getShortName(TypeElement type) {
+
+		Element enclosing = type.getEnclosingElement();
+		String name = type.getSimpleName().toString();
+
+		return enclosing instanceof TypeElement ? getShortName((TypeElement) enclosing).concat(".").concat(name) : name;
+	}
+
+	private static String literal(String value) {
+
+		if (value == null) {
+			return "null";
+		}
+
+		StringBuilder builder = new StringBuilder("\"");
+
+		for (char c : value.toCharArray()) {
+
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c < 0x20) {
+				builder.append(String.format("\\%03o", (int) c));
+			} else if (c > 0x7e) {
+				builder.append(String.format("\\u%04x", (int) c));
+			} else {
+				builder.append(c);
+			}
+		}
+
+		return builder.append('"').toString();
+	}
+}
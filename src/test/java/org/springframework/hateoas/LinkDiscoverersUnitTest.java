@@ -18,7 +18,10 @@ package org.springframework.hateoas;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import org.springframework.core.annotation.Order;
@@ -34,6 +37,8 @@ import org.springframework.plugin.core.PluginRegistry;
  */
 public class LinkDiscoverersUnitTest {
 
+	static final String SOURCE = "{ \"links\" : { \"self\" : \"/self\", \"next\" : \"/next\" } }";
+
 	@Test(expected = IllegalArgumentException.class)
 	public void rejectsNullPluginRegistry() {
 		new LinkDiscoverers(null);
@@ -49,6 +54,58 @@ public class LinkDiscoverersUnitTest {
 		assertThat(registry.getPluginFor(MediaType.APPLICATION_JSON), is(high));
 	}
 
+	@Test
+	public void findsLinksWithRelsUsingDiscovererForMediaType() {
+
+		LinkDiscoverer discoverer = new LowPriorityLinkDiscoverer();
+		LinkDiscoverers discoverers = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
+
+		Links links = discoverers.findLinksWithRels(MediaType.APPLICATION_JSON, Arrays.asList("self", "next"),
+				SOURCE);
+
+		assertThat(links.getLink(Link.REL_SELF), is(new Link("/self")));
+		assertThat(links.getLink(Link.REL_NEXT), is(new Link("/next", Link.REL_NEXT)));
+	}
+
+	@Test
+	public void findsLinksWithRelsFromInputStream() throws Exception {
+
+		LinkDiscoverer discoverer = new LowPriorityLinkDiscoverer();
+		LinkDiscoverers discoverers = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
+
+		Links links = discoverers.findLinksWithRels(MediaType.APPLICATION_JSON, Arrays.asList("self", "next"),
+				new ByteArrayInputStream(SOURCE.getBytes("UTF-8")));
+
+		assertThat(links.getLink(Link.REL_SELF), is(new Link("/self")));
+		assertThat(links.getLink(Link.REL_NEXT), is(new Link("/next", Link.REL_NEXT)));
+	}
+
+	@Test
+	public void fallsBackToLookupPerRelForPlainLinkDiscoverer() throws Exception {
+
+		LinkDiscoverer discoverer = new PlainLinkDiscoverer();
+		LinkDiscoverers discoverers = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
+
+		Links links = discoverers.findLinksWithRels(MediaType.APPLICATION_JSON, Arrays.asList("self", "next"), SOURCE);
+
+		assertThat(links.getLink(Link.REL_SELF), is(new Link("/self")));
+		assertThat(links.getLink(Link.REL_NEXT), is(new Link("/next", Link.REL_NEXT)));
+
+		links = discoverers.findLinksWithRels(MediaType.APPLICATION_JSON, Arrays.asList("next"),
+				new ByteArrayInputStream(SOURCE.getBytes("UTF-8")));
+
+		assertThat(links.getLink(Link.REL_NEXT), is(new Link("/next", Link.REL_NEXT)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMediaTypeWithoutLinkDiscoverer() {
+
+		LinkDiscoverer discoverer = new LowPriorityLinkDiscoverer();
+		LinkDiscoverers discoverers = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
+
+		discoverers.findLinksWithRels(MediaType.APPLICATION_XML, Arrays.asList("self"), "<foo />");
+	}
+
 	@Order(20)
 	static class LowPriorityLinkDiscoverer extends JsonPathLinkDiscoverer {
 
@@ -64,4 +121,37 @@ public class LinkDiscoverersUnitTest {
 			super("$.links.%s", MediaType.APPLICATION_JSON);
 		}
 	}
+
+	/**
+	 * {@link LinkDiscoverer} not implementing {@link MultiRelLinkDiscoverer}.
+	 */
+	static class PlainLinkDiscoverer implements LinkDiscoverer {
+
+		private final LinkDiscoverer delegate = new LowPriorityLinkDiscoverer();
+
+		@Override
+		public boolean supports(MediaType delimiter) {
+			return delegate.supports(delimiter);
+		}
+
+		@Override
+		public Link findLinkWithRel(String rel, String representation) {
+			return delegate.findLinkWithRel(rel, representation);
+		}
+
+		@Override
+		public Link findLinkWithRel(String rel, InputStream representation) {
+			return delegate.findLinkWithRel(rel, representation);
+		}
+
+		@Override
+		public List<Link> findLinksWithRel(String rel, String representation) {
+			return delegate.findLinksWithRel(rel, representation);
+		}
+
+		@Override
+		public List<Link> findLinksWithRel(String rel, InputStream representation) {
+			return delegate.findLinksWithRel(rel, representation);
+		}
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LinkHeaderParser}.
+ *
+ * @author Oliver Gierke
+ */
+public class LinkHeaderParserUnitTest {
+
+	@Test
+	public void parsesTokenAndQuotedParameterValues() {
+
+		Link link = LinkHeaderParser.parseLink("<http://localhost/foo?a=b,c> ; rel=next; title=\"Foo, Bar; \\\"Baz\\\"\"");
+
+		assertThat(link.getHref(), is("http://localhost/foo?a=b,c"));
+		assertThat(link.getRel(), is("next"));
+		assertThat(link.getTitle(), is("Foo, Bar; \"Baz\""));
+	}
+
+	@Test
+	public void matchesParameterNamesCaseInsensitivelyAndUsesFirstOccurrence() {
+
+		Link link = LinkHeaderParser.parseLink("</foo>; REL=\"first\"; rel=\"second\"; Type=\"text/html\"");
+
+		assertThat(link.getRel(), is("first"));
+		assertThat(link.getType(), is("text/html"));
+	}
+
+	@Test
+	public void parsesMultipleLinkValues() {
+
+		List<Link> links = LinkHeaderParser.parseLinks(
+				"</foo?page=1>;rel=\"next\";title=\"a,b\" , </foo?page=0>;rel=prev;x=\"<y>,z\",</foo?page=9>; rel=\"last\"");
+
+		assertThat(links, contains(new Link("/foo?page=1", "next").withTitle("a,b"), new Link("/foo?page=0", "prev"),
+				new Link("/foo?page=9", "last")));
+	}
+
+	@Test
+	public void skipsElementsNotStartingWithUriReference() {
+
+		List<Link> links = LinkHeaderParser.parseLinks("foo;rel=\"a,b\", </foo>;rel=\"foo\"");
+
+		assertThat(links, contains(new Link("/foo", "foo")));
+	}
+
+	@Test
+	public void ignoresParametersWithoutValue() {
+		assertThat(LinkHeaderParser.parseLink("</foo>;anchor;rel=\"foo\""), is(new Link("/foo", "foo")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnterminatedUriReference() {
+		LinkHeaderParser.parseLink("</foo;rel=\"foo\"");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnterminatedQuotedString() {
+		LinkHeaderParser.parseLink("</foo>;rel=\"foo");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyRel() {
+		LinkHeaderParser.parseLink("</foo>;rel=\"\"");
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LinkList}.
+ *
+ * @author Oliver Gierke
+ */
+public class LinkListUnitTest {
+
+	LinkList links;
+
+	@Before
+	public void setUp() {
+
+		this.links = new LinkList();
+
+		for (int i = 0; i < LinkList.INDEX_THRESHOLD; i++) {
+			links.add(new Link("/" + i, "rel" + i % 3));
+		}
+	}
+
+	@Test
+	public void looksUpLinksByRelOnceIndexed() {
+
+		assertThat(LinkList.getLink(links, "rel1"), is(new Link("/1", "rel1")));
+		assertThat(LinkList.getLinks(links, "rel1"),
+				contains(new Link("/1", "rel1"), new Link("/4", "rel1"), new Link("/7", "rel1")));
+		assertThat(LinkList.getLink(links, "foo"), is(nullValue()));
+		assertThat(LinkList.getLinks(links, "foo"), is(empty()));
+	}
+
+	@Test
+	public void looksUpLinksByRelInSmallList() {
+
+		LinkList links = new LinkList(Arrays.asList(new Link("/foo", "foo"), new Link("/bar", "bar"),
+				new Link("/foo2", "foo")));
+
+		assertThat(LinkList.getLink(links, "foo"), is(new Link("/foo", "foo")));
+		assertThat(LinkList.getLinks(links, "foo"), contains(new Link("/foo", "foo"), new Link("/foo2", "foo")));
+		assertThat(LinkList.getLink(links, "ba"), is(nullValue()));
+	}
+
+	@Test
+	public void picksUpStructuralModificationsAfterIndexing() {
+
+		assertThat(LinkList.getLink(links, "foo"), is(nullValue()));
+
+		links.add(new Link("/foo", "foo"));
+		assertThat(LinkList.getLink(links, "foo"), is(new Link("/foo", "foo")));
+
+		links.remove(0);
+		assertThat(LinkList.getLinks(links, "rel0"), contains(new Link("/3", "rel0"), new Link("/6", "rel0")));
+
+		links.clear();
+		assertThat(LinkList.getLink(links, "foo"), is(nullValue()));
+	}
+
+	@Test
+	public void picksUpReplacedElementsAfterIndexing() {
+
+		assertThat(LinkList.getLink(links, "rel0"), is(new Link("/0", "rel0")));
+
+		links.set(0, new Link("/foo", "foo"));
+
+		assertThat(LinkList.getLink(links, "rel0"), is(new Link("/3", "rel0")));
+		assertThat(LinkList.getLink(links, "foo"), is(new Link("/foo", "foo")));
+	}
+
+	@Test
+	public void scansOtherListsLinearly() {
+
+		List<Link> links = new ArrayList<Link>(this.links);
+
+		assertThat(LinkList.getLink(links, "rel1"), is(new Link("/1", "rel1")));
+		assertThat(LinkList.getLinks(links, "rel1"), hasSize(3));
+	}
+
+	@Test
+	public void returnedListsDoNotAffectIndex() {
+
+		LinkList.getLinks(links, "rel1").clear();
+
+		assertThat(LinkList.getLinks(links, "rel1"), hasSize(3));
+	}
+
+	@Test
+	public void supportsConcurrentLookups() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Link>> results = new ArrayList<Future<Link>>();
+
+		try {
+
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(new Callable<Link>() {
+
+					@Override
+					public Link call() {
+						return LinkList.getLink(links, "rel2");
+					}
+				}));
+			}
+
+			for (Future<Link> result : results) {
+				assertThat(result.get(), is(new Link("/2", "rel2")));
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -112,7 +112,8 @@ public class LinkUnitTest {
 	public void parsesRFC5988HeaderIntoLink() {
 
 		assertThat(Link.valueOf("</something>;rel=\"foo\""), is(new Link("/something", "foo")));
-		assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\""), is(new Link("/something", "foo")));
+		assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\""),
+				is(new Link("/something", "foo").withTitle("Some title")));
 		assertThat(Link.valueOf("</customer/1>;rel=\"self\";hreflang=\"en\";media=\"pdf\";title=\"pdf customer copy\";type=\"portable document\";deprecation=\"http://example.com/customers/deprecated\""),
 			is(new Link("/customer/1")
 				.withHreflang("en")
@@ -217,4 +218,24 @@ public class LinkUnitTest {
 		assertThat(Link.valueOf("<http://localhost>; rel=\"http://acme.com/rels/foo-bar\"").getRel(),
 				is("http://acme.com/rels/foo-bar"));
 	}
+
+	@Test
+	public void appendsSameRepresentationAsToString() throws IOException {
+
+		Link link = new Link("/foo", "bar").withHreflang("en").withMedia("pdf").withTitle("title").withType("type")
+				.withDeprecation("http://example.com/deprecation");
+
+		assertThat(link.appendTo(new StringBuilder("prefix:")).toString(), is("prefix:" + link.toString()));
+		assertThat(link.toString(), is("</foo>;rel=\"bar\";hreflang=\"en\";media=\"pdf\";title=\"title\";type=\"type\""
+				+ ";deprecation=\"http://example.com/deprecation\""));
+	}
+
+	@Test
+	public void escapesQuotesInAttributeValuesSoThatLinkCanBeParsedAgain() {
+
+		Link link = new Link("/foo", "bar").withTitle("Some \"quoted\" \\ title");
+
+		assertThat(link.toString(), is("</foo>;rel=\"bar\";title=\"Some \\\"quoted\\\" \\\\ title\""));
+		assertThat(Link.valueOf(link.toString()), is(link));
+	}
 }
@@ -18,6 +18,7 @@ package org.springframework.hateoas;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -92,4 +93,22 @@ public class LinksUnitTest {
 		assertThat(twoWithCommaInFirst.getLink("foo"), is(withComma));
 		assertThat(twoWithCommaInFirst.getLink("bar"), is(new Link("/somethingElse", "bar")));
 	}
+
+	@Test
+	public void looksUpLinksByExactRel() {
+
+		Links links = new Links(new Link("/foo", "foo"), new Link("/bar", "ns:foo"), new Link("/foobar", "foo"));
+
+		assertThat(links.getLinks("foo"), is(Arrays.asList(new Link("/foo", "foo"), new Link("/foobar", "foo"))));
+		assertThat(links.getLink("ns:foo"), is(new Link("/bar", "ns:foo")));
+	}
+
+	@Test
+	public void appendsSameRepresentationAsToString() throws IOException {
+
+		Links links = Links.valueOf(LINKS);
+
+		assertThat(links.appendTo(new StringBuilder()).toString(), is(LINKS));
+		assertThat(new Links().toString(), is(""));
+	}
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UriTemplateCache}.
+ *
+ * @author Oliver Gierke
+ */
+public class UriTemplateCacheUnitTest {
+
+	UriTemplateCache cache = new UriTemplateCache(16);
+
+	@Test
+	public void returnsCachedTemplateForSameTemplateString() {
+
+		UriTemplate template = cache.get("/foo{?bar}");
+
+		assertThat(cache.get("/foo{?bar}"), is(sameInstance(template)));
+		assertThat(cache.get("/foo{?bar}").getVariableNames(), contains("bar"));
+		assertThat(cache.getHitCount(), is(2L));
+		assertThat(cache.getMissCount(), is(1L));
+		assertThat(cache.size(), is(1));
+	}
+
+	@Test
+	public void evictsEntriesOnceFull() {
+
+		for (int i = 0; i < 1000; i++) {
+			cache.get("/foo/" + i);
+		}
+
+		assertThat(cache.size(), is(lessThanOrEqualTo(16)));
+		assertThat(cache.getEvictionCount(), is(greaterThanOrEqualTo(1000L - 16)));
+		assertThat(cache.getMissCount(), is(1000L));
+	}
+
+	@Test
+	public void clearRemovesEntriesAndResetsStatistics() {
+
+		cache.get("/foo");
+		cache.get("/foo");
+		cache.clear();
+
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getHitCount(), is(0L));
+		assertThat(cache.getMissCount(), is(0L));
+	}
+
+	@Test
+	public void linksShareCachedTemplate() {
+
+		UriTemplateCache shared = UriTemplateCache.getSharedInstance();
+		String href = "/links-share-cached-template{?page}";
+
+		UriTemplate template = UriTemplate.of(href);
+		long hits = shared.getHitCount();
+
+		assertThat(new Link(href, "foo").getVariableNames(), contains("page"));
+		assertThat(shared.getHitCount(), is(greaterThan(hits)));
+		assertThat(UriTemplate.of(href), is(sameInstance(template)));
+	}
+
+	@Test
+	public void linksWithPlainUrisBypassSharedCache() {
+
+		UriTemplateCache shared = UriTemplateCache.getSharedInstance();
+		long misses = shared.getMissCount();
+		long hits = shared.getHitCount();
+
+		new Link("/links-with-plain-uris-bypass-shared-cache", "foo");
+
+		assertThat(shared.getMissCount(), is(misses));
+		assertThat(shared.getHitCount(), is(hits));
+	}
+
+	@Test
+	public void holdsTemplatesStrongly() {
+
+		cache.get("/foo{?bar}");
+		System.gc();
+		cache.get("/foo{?bar}");
+
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getEvictionCount(), is(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMaxSizeSmallerThanNumberOfSegments() {
+		new UriTemplateCache(8);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyTemplate() {
+		cache.get("");
+	}
+}
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -261,6 +262,183 @@ public class UriTemplateUnitTest {
 		assertThat(template.toString(), is("/{?q}"));
 	}
 
+	@Test
+	public void expandsRequiredAndOptionalVariablesInOrderOfDeclaration() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}/bar{?page,size}");
+
+		assertThat(template.expandToString(1, 2), is("/foo/1/bar?page=2"));
+		assertThat(template.expandToString(1, 2, 20), is("/foo/1/bar?page=2&size=20"));
+	}
+
+	@Test
+	public void continuesExistingQueryForRequestParameters() {
+
+		assertThat(new UriTemplate("/foo?bar=1{?page}").expandToString(2), is("/foo?bar=1&page=2"));
+		assertThat(new UriTemplate("/foo{&page}").expandToString(2), is("/foo?page=2"));
+	}
+
+	@Test
+	public void encodesVariableValuesAccordingToComponent() {
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("path", "a b/c");
+		parameters.put("query", "a&b=c ä");
+		parameters.put("fragment", "a b");
+
+		UriTemplate template = new UriTemplate("/{path}{?query}{#fragment}");
+
+		assertThat(template.expandToString(parameters), is("/a%20b/c?query=a%26b%3Dc%20%C3%A4#a%20b"));
+		assertThat(template.expand(parameters).toString(), is(template.expandToString(parameters)));
+	}
+
+	@Test
+	public void keepsEncodedCharactersInLiteralsAndEncodesInvalidOnes() {
+		assertThat(new UriTemplate("/foo%20bar baz/{id}").expandToString(1), is("/foo%20bar%20baz/1"));
+	}
+
+	@Test
+	public void treatsInvalidExpressionsAsLiterals() {
+
+		UriTemplate template = new UriTemplate("/foo/{not-a-variable}{?bar}");
+
+		assertThat(template.getVariableNames(), contains("bar"));
+		assertThat(template.expandToString("value"), is("/foo/%7Bnot-a-variable%7D?bar=value"));
+		assertThat(UriTemplate.isTemplate("/foo/{}"), is(false));
+	}
+
+	@Test
+	public void skipsSlashForSegmentIfPathAlreadyEndsWithOne() {
+		assertThat(new UriTemplate("/foo/{/bar}").expandToString("bar"), is("/foo/bar"));
+	}
+
+	@Test
+	public void reusesCompiledTemplateForSameTemplateString() {
+		assertThat(CompiledUriTemplate.of("/foo{?bar}"), is(sameInstance(CompiledUriTemplate.of("/foo{?bar}"))));
+	}
+
+	@Test
+	public void doesNotCacheCompiledFormOfPlainUris() {
+
+		String uri = "/does-not-cache-compiled-form-of-plain-uris";
+		UriTemplateCache cache = UriTemplateCache.getSharedInstance();
+		long misses = cache.getMissCount();
+
+		assertThat(CompiledUriTemplate.of(uri), is(not(sameInstance(CompiledUriTemplate.of(uri)))));
+		assertThat(UriTemplate.isTemplate(uri), is(false));
+		assertThat(cache.getMissCount(), is(misses));
+	}
+
+	@Test
+	public void discoversLevelFourVariables() {
+
+		UriTemplate template = new UriTemplate("{+base}/foo{.format}{;matrix*}/bar{?tags*,name:3}");
+
+		assertThat(template.getVariables(),
+				contains(new TemplateVariable("base", VariableType.RESERVED),
+						new TemplateVariable("format", VariableType.LABEL),
+						new TemplateVariable("matrix", VariableType.PATH_STYLE, "", 0, true),
+						new TemplateVariable("tags", VariableType.REQUEST_PARAM, "", 0, true),
+						new TemplateVariable("name", VariableType.REQUEST_PARAM, "", 3, false)));
+		assertThat(template.toString(), is("{+base}/foo{.format}{;matrix*}/bar{?tags*,name:3}"));
+	}
+
+	@Test
+	public void expandsReservedExpressions() {
+
+		assertThat(expand("{+path:6}/here"), is("/foo/b/here"));
+		assertThat(expand("{+list}"), is("red,green,blue"));
+		assertThat(expand("{+list*}"), is("red,green,blue"));
+		assertThat(expand("{+keys}"), is("semi,;,dot,.,comma,,"));
+		assertThat(expand("{+keys*}"), is("semi=;,dot=.,comma=,"));
+		assertThat(expand("{+half}"), is("50%25"));
+		assertThat(expand("{+base}index{?x}"), is("http://example.com/home/index?x=1024"));
+	}
+
+	@Test
+	public void expandsLabelExpressions() {
+
+		assertThat(expand("{.var:3}"), is(".val"));
+		assertThat(expand("X{.var}"), is("X.value"));
+		assertThat(expand("X{.list}"), is("X.red,green,blue"));
+		assertThat(expand("X{.list*}"), is("X.red.green.blue"));
+		assertThat(expand("X{.keys}"), is("X.semi,%3B,dot,.,comma,%2C"));
+		assertThat(expand("X{.keys*}"), is("X.semi=%3B.dot=..comma=%2C"));
+		assertThat(expand("X{.empty_keys}"), is("X"));
+	}
+
+	@Test
+	public void expandsPathStyleExpressions() {
+
+		assertThat(expand("{;x,y}"), is(";x=1024;y=768"));
+		assertThat(expand("{;x,y,empty}"), is(";x=1024;y=768;empty"));
+		assertThat(expand("{;hello:5}"), is(";hello=Hello"));
+		assertThat(expand("{;list}"), is(";list=red,green,blue"));
+		assertThat(expand("{;list*}"), is(";list=red;list=green;list=blue"));
+		assertThat(expand("{;keys}"), is(";keys=semi,%3B,dot,.,comma,%2C"));
+		assertThat(expand("{;keys*}"), is(";semi=%3B;dot=.;comma=%2C"));
+	}
+
+	@Test
+	public void expandsModifiersForExistingVariableTypes() {
+
+		assertThat(expand("{var:3}"), is("val"));
+		assertThat(expand("{list}"), is("red,green,blue"));
+		assertThat(expand("/foo{?x,y,empty}"), is("/foo?x=1024&y=768&empty="));
+		assertThat(expand("/foo{?list}"), is("/foo?list=red,green,blue"));
+		assertThat(expand("/foo{?list*}"), is("/foo?list=red&list=green&list=blue"));
+		assertThat(expand("/foo?fixed=yes{&x}"), is("/foo?fixed=yes&x=1024"));
+		assertThat(expand("{/list*}"), is("/red/green/blue"));
+		assertThat(expand("{#path:6}/here"), is("#/foo/b/here"));
+		assertThat(expand("{#keys*}"), is("#semi=;,dot=.,comma=,"));
+	}
+
+	@Test
+	public void expandsArraysLikeCollections() {
+
+		UriTemplate template = new UriTemplate("/foo{?ids*}");
+
+		assertThat(template.expandToString(new Object[] { new long[] { 1, 2 } }), is("/foo?ids=1&ids=2"));
+	}
+
+	@Test
+	public void keepsLiteralsBetweenOptionalExpressionsInBaseUri() {
+
+		UriTemplate template = new UriTemplate("/foo{.format}/bar{?page}");
+
+		assertThat(template.toString(), is("/foo{.format}/bar{?page}"));
+		assertThat(template.with("size", VariableType.REQUEST_PARAM).toString(), is("/foo{.format}/bar{?page,size}"));
+		assertThat(template.expandToString("json", 2), is("/foo.json/bar?page=2"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingRequiredReservedVariable() {
+		new UriTemplate("{+base}/foo").expandToString();
+	}
+
+	private static String expand(String template) {
+
+		Map<String, Object> keys = new LinkedHashMap<String, Object>();
+		keys.put("semi", ";");
+		keys.put("dot", ".");
+		keys.put("comma", ",");
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("var", "value");
+		parameters.put("hello", "Hello World!");
+		parameters.put("half", "50%");
+		parameters.put("path", "/foo/bar");
+		parameters.put("base", "http://example.com/home/");
+		parameters.put("empty", "");
+		parameters.put("x", 1024);
+		parameters.put("y", 768);
+		parameters.put("list", Arrays.asList("red", "green", "blue"));
+		parameters.put("keys", keys);
+		parameters.put("empty_keys", Collections.emptyMap());
+
+		return new UriTemplate(template).expandToString(parameters);
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * Unit tests for {@link FanOut}.
+ *
+ * @author Oliver Gierke
+ */
+public class FanOutUnitTest {
+
+	ExecutorService executor = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void returnsResultsInOrderOfTasks() {
+
+		List<Callable<ListenableFuture<Integer>>> tasks = new ArrayList<Callable<ListenableFuture<Integer>>>();
+
+		for (int i = 0; i < 10; i++) {
+			tasks.add(completeAfter(i, 10 - i, null));
+		}
+
+		assertThat(FanOut.execute(tasks, 10), contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+	}
+
+	@Test
+	public void limitsNumberOfTasksInFlight() {
+
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+
+		List<Callable<ListenableFuture<Integer>>> tasks = new ArrayList<Callable<ListenableFuture<Integer>>>();
+
+		for (int i = 0; i < 20; i++) {
+			tasks.add(tracking(completeAfter(i, 5, inFlight), inFlight, maximum));
+		}
+
+		assertThat(FanOut.execute(tasks, 3), hasSize(20));
+		assertThat(maximum.get(), is(lessThanOrEqualTo(3)));
+		assertThat(maximum.get(), is(greaterThan(1)));
+	}
+
+	@Test
+	public void completesSynchronouslyCompletingTasks() {
+
+		List<Callable<ListenableFuture<Integer>>> tasks = new ArrayList<Callable<ListenableFuture<Integer>>>();
+
+		for (int i = 0; i < 100; i++) {
+			tasks.add(completed(i));
+		}
+
+		assertThat(FanOut.execute(tasks, 1), hasSize(100));
+	}
+
+	@Test(timeout = 10000)
+	public void doesNotGrowStackWithSynchronouslyCompletingTasks() {
+
+		List<Callable<ListenableFuture<Integer>>> tasks = new ArrayList<Callable<ListenableFuture<Integer>>>();
+
+		for (int i = 0; i < 100000; i++) {
+			tasks.add(completed(i));
+		}
+
+		List<Integer> results = FanOut.execute(tasks, 2);
+
+		assertThat(results, hasSize(100000));
+		assertThat(results.get(99999), is(99999));
+	}
+
+	@Test
+	public void failsOnFirstFailingTaskAndDoesNotStartRemainingOnes() {
+
+		final AtomicInteger started = new AtomicInteger();
+		List<Callable<ListenableFuture<Integer>>> tasks = new ArrayList<Callable<ListenableFuture<Integer>>>();
+
+		tasks.add(completed(0));
+		tasks.add(new Callable<ListenableFuture<Integer>>() {
+
+			@Override
+			public ListenableFuture<Integer> call() {
+
+				SettableListenableFuture<Integer> future = new SettableListenableFuture<Integer>();
+				future.setException(new IllegalStateException("Boom!"));
+				return future;
+			}
+		});
+
+		for (int i = 0; i < 5; i++) {
+			tasks.add(new Callable<ListenableFuture<Integer>>() {
+
+				@Override
+				public ListenableFuture<Integer> call() throws Exception {
+					started.incrementAndGet();
+					return completed(0).call();
+				}
+			});
+		}
+
+		try {
+			FanOut.execute(tasks, 1);
+			fail("Expected IllegalStateException!");
+		} catch (IllegalStateException o_O) {
+			assertThat(o_O.getMessage(), is("Boom!"));
+		}
+
+		assertThat(started.get(), is(0));
+	}
+
+	@Test
+	public void returnsEmptyListForNoTasks() {
+		assertThat(FanOut.execute(Collections.<Callable<ListenableFuture<Object>>> emptyList(), 1), is(empty()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveParallelism() {
+		FanOut.execute(Collections.<Callable<ListenableFuture<Object>>> emptyList(), 0);
+	}
+
+	private static Callable<ListenableFuture<Integer>> completed(final int value) {
+
+		return new Callable<ListenableFuture<Integer>>() {
+
+			@Override
+			public ListenableFuture<Integer> call() {
+
+				SettableListenableFuture<Integer> future = new SettableListenableFuture<Integer>();
+				future.set(value);
+				return future;
+			}
+		};
+	}
+
+	private Callable<ListenableFuture<Integer>> completeAfter(final int value, final long millis,
+			final AtomicInteger inFlight) {
+
+		return new Callable<ListenableFuture<Integer>>() {
+
+			@Override
+			public ListenableFuture<Integer> call() {
+
+				final SettableListenableFuture<Integer> future = new SettableListenableFuture<Integer>();
+
+				executor.execute(new Runnable() {
+
+					@Override
+					public void run() {
+
+						try {
+							Thread.sleep(millis);
+						} catch (InterruptedException o_O) {
+							Thread.currentThread().interrupt();
+						}
+
+						if (inFlight != null) {
+							inFlight.decrementAndGet();
+						}
+
+						future.set(value);
+					}
+				});
+
+				return future;
+			}
+		};
+	}
+
+	private static Callable<ListenableFuture<Integer>> tracking(final Callable<ListenableFuture<Integer>> delegate,
+			final AtomicInteger inFlight, final AtomicInteger maximum) {
+
+		return new Callable<ListenableFuture<Integer>>() {
+
+			@Override
+			public ListenableFuture<Integer> call() throws Exception {
+
+				int current = inFlight.incrementAndGet();
+
+				synchronized (maximum) {
+					maximum.set(Math.max(maximum.get(), current));
+				}
+
+				return delegate.call();
+			}
+		};
+	}
+}
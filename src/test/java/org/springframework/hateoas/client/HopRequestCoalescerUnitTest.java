@@ -0,0 +1,267 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Unit tests for {@link HopRequestCoalescer}.
+ *
+ * @author Oliver Gierke
+ */
+public class HopRequestCoalescerUnitTest {
+
+	static final URI URI = java.net.URI.create("http://localhost/");
+	static final int THREADS = 8;
+
+	HopRequestCoalescer coalescer = new HopRequestCoalescer();
+	HttpEntity<?> request = new HttpEntity<Void>(new HttpHeaders());
+	ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void sharesInFlightRequestBetweenConcurrentCallers() throws Exception {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger calls = new AtomicInteger();
+		final ResponseEntity<String> response = new ResponseEntity<String>("body", HttpStatus.OK);
+
+		List<Future<ResponseEntity<String>>> results = submit(new Callable<ResponseEntity<String>>() {
+
+			@Override
+			public ResponseEntity<String> call() throws Exception {
+
+				calls.incrementAndGet();
+				release.await(5, TimeUnit.SECONDS);
+
+				return response;
+			}
+		});
+
+		awaitCollapsed(THREADS - 1);
+		release.countDown();
+
+		for (Future<ResponseEntity<String>> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS), is(sameInstance(response)));
+		}
+
+		assertThat(calls.get(), is(1));
+		assertThat(coalescer.getRequestCount(), is(1L));
+		assertThat(coalescer.getCollapsedCount(), is((long) THREADS - 1));
+		assertThat(coalescer.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void propagatesFailureToAllCallers() throws Exception {
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<ResponseEntity<String>>> results = submit(new Callable<ResponseEntity<String>>() {
+
+			@Override
+			public ResponseEntity<String> call() throws Exception {
+
+				release.await(5, TimeUnit.SECONDS);
+				throw new IllegalStateException("Upstream failure!");
+			}
+		});
+
+		awaitCollapsed(THREADS - 1);
+		release.countDown();
+
+		for (Future<ResponseEntity<String>> result : results) {
+
+			try {
+				result.get(5, TimeUnit.SECONDS);
+				fail("Expected ExecutionException!");
+			} catch (ExecutionException o_O) {
+				assertThat(o_O.getCause(), is(instanceOf(IllegalStateException.class)));
+			}
+		}
+	}
+
+	@Test
+	public void releasesCallersAndUnregistersRequestIfLeaderFailsWithError() throws Exception {
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<ResponseEntity<String>>> results = submit(new Callable<ResponseEntity<String>>() {
+
+			@Override
+			public ResponseEntity<String> call() throws Exception {
+
+				release.await(5, TimeUnit.SECONDS);
+				throw new StackOverflowError();
+			}
+		});
+
+		awaitCollapsed(THREADS - 1);
+		release.countDown();
+
+		for (Future<ResponseEntity<String>> result : results) {
+
+			try {
+				result.get(5, TimeUnit.SECONDS);
+				fail("Expected ExecutionException!");
+			} catch (ExecutionException o_O) {
+				assertThat(o_O.getCause(), is(instanceOf(StackOverflowError.class)));
+			}
+		}
+
+		assertThat(coalescer.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void failsCallersWaitingLongerThanTimeout() throws Exception {
+
+		this.coalescer = new HopRequestCoalescer(50, TimeUnit.MILLISECONDS);
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch started = new CountDownLatch(1);
+
+		Future<ResponseEntity<String>> leader = executor.submit(new Callable<ResponseEntity<String>>() {
+
+			@Override
+			public ResponseEntity<String> call() {
+
+				return coalescer.exchange(URI, request, new Callable<ResponseEntity<String>>() {
+
+					@Override
+					public ResponseEntity<String> call() throws Exception {
+
+						started.countDown();
+						release.await(5, TimeUnit.SECONDS);
+
+						return new ResponseEntity<String>(HttpStatus.OK);
+					}
+				});
+			}
+		});
+
+		started.await(5, TimeUnit.SECONDS);
+
+		try {
+			coalescer.exchange(URI, request, null);
+			fail("Expected ResourceAccessException!");
+		} catch (ResourceAccessException o_O) {}
+
+		release.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS).getStatusCode(), is(HttpStatus.OK));
+	}
+
+	@Test
+	public void issuesNewRequestOnceInFlightOneCompleted() {
+
+		Callable<ResponseEntity<String>> exchange = new Callable<ResponseEntity<String>>() {
+
+			@Override
+			public ResponseEntity<String> call() {
+				return new ResponseEntity<String>(HttpStatus.OK);
+			}
+		};
+
+		coalescer.exchange(URI, request, exchange);
+		coalescer.exchange(URI, request, exchange);
+
+		assertThat(coalescer.getRequestCount(), is(2L));
+		assertThat(coalescer.getCollapsedCount(), is(0L));
+	}
+
+	@Test
+	public void doesNotShareRequestsWithDifferentHeaders() throws Exception {
+
+		final SettableListenableFuture<ResponseEntity<String>> response = //
+				new SettableListenableFuture<ResponseEntity<String>>();
+
+		Callable<ListenableFuture<ResponseEntity<String>>> exchange = //
+				new Callable<ListenableFuture<ResponseEntity<String>>>() {
+
+					@Override
+					public ListenableFuture<ResponseEntity<String>> call() {
+						return response;
+					}
+				};
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Authorization", "Basic Zm9vOmJhcg==");
+
+		ListenableFuture<ResponseEntity<String>> first = coalescer.exchangeAsync(URI, request, exchange);
+		ListenableFuture<ResponseEntity<String>> second = coalescer.exchangeAsync(URI, request, exchange);
+		coalescer.exchangeAsync(URI, new HttpEntity<Void>(headers), exchange);
+
+		assertThat(second, is(sameInstance(first)));
+		assertThat(coalescer.getRequestCount(), is(2L));
+		assertThat(coalescer.getCollapsedCount(), is(1L));
+
+		response.set(new ResponseEntity<String>("body", HttpStatus.OK));
+
+		assertThat(first.get(5, TimeUnit.SECONDS).getBody(), is("body"));
+		assertThat(coalescer.getInFlightCount(), is(0));
+	}
+
+	private List<Future<ResponseEntity<String>>> submit(final Callable<ResponseEntity<String>> exchange) {
+
+		List<Future<ResponseEntity<String>>> results = new ArrayList<Future<ResponseEntity<String>>>();
+
+		for (int i = 0; i < THREADS; i++) {
+			results.add(executor.submit(new Callable<ResponseEntity<String>>() {
+
+				@Override
+				public ResponseEntity<String> call() throws Exception {
+					return coalescer.exchange(URI, request, exchange);
+				}
+			}));
+		}
+
+		return results;
+	}
+
+	private void awaitCollapsed(long expected) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while (coalescer.getCollapsedCount() < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Unit tests for {@link HopResponseCache}.
+ *
+ * @author Oliver Gierke
+ */
+public class HopResponseCacheUnitTest {
+
+	static final URI URI = java.net.URI.create("http://localhost/");
+
+	HopResponseCache cache = new HopResponseCache(2);
+	RestOperations operations = mock(RestOperations.class);
+	HttpEntity<?> request;
+
+	@Before
+	public void setUp() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(Arrays.asList(MediaTypes.HAL_JSON));
+
+		this.request = new HttpEntity<Void>(headers);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveMaxSize() {
+		new HopResponseCache(0);
+	}
+
+	@Test
+	public void servesFreshResponseFromCache() {
+
+		respondWith(response("body", "max-age=60", null));
+
+		assertThat(cache.exchange(URI, request, operations).getBody(), is("body"));
+		assertThat(cache.exchange(URI, request, operations).getBody(), is("body"));
+
+		verify(operations, times(1)).exchange(eq(URI), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+	}
+
+	@Test
+	public void keysResponsesByAcceptedMediaTypes() {
+
+		respondWith(response("body", "max-age=60", null));
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
+
+		cache.exchange(URI, request, operations);
+		cache.exchange(URI, new HttpEntity<Void>(headers), operations);
+
+		assertThat(cache.getMissCount(), is(2L));
+		assertThat(cache.size(), is(2));
+	}
+
+	@Test
+	public void revalidatesStaleResponseUsingETag() {
+
+		respondWith(response("body", "no-cache", "\"v1\""));
+		cache.exchange(URI, request, operations);
+
+		respondWith(new ResponseEntity<String>(HttpStatus.NOT_MODIFIED));
+
+		assertThat(cache.exchange(URI, request, operations).getBody(), is("body"));
+		assertThat(getLastRequestHeaders().getIfNoneMatch(), contains("\"v1\""));
+		assertThat(cache.getRevalidationCount(), is(1L));
+		assertThat(cache.getHitCount(), is(0L));
+	}
+
+	@Test
+	public void revalidatesStaleResponseUsingLastModified() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setLastModified(1000000);
+
+		respondWith(new ResponseEntity<String>("body", headers, HttpStatus.OK));
+		cache.exchange(URI, request, operations);
+		cache.exchange(URI, request, operations);
+
+		assertThat(getLastRequestHeaders().getIfModifiedSince(), is(1000000L));
+	}
+
+	@Test
+	public void replacesCachedResponseIfModified() {
+
+		respondWith(response("first", null, "\"v1\""));
+		cache.exchange(URI, request, operations);
+
+		respondWith(response("second", null, "\"v2\""));
+
+		assertThat(cache.exchange(URI, request, operations).getBody(), is("second"));
+		assertThat(cache.getMissCount(), is(2L));
+		assertThat(cache.getRevalidationCount(), is(0L));
+	}
+
+	@Test
+	public void doesNotCacheResponsesMarkedNoStore() {
+
+		respondWith(response("body", "no-store, max-age=60", "\"v1\""));
+
+		cache.exchange(URI, request, operations);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void doesNotCacheResponsesWithoutFreshnessOrValidators() {
+
+		respondWith(response("body", null, null));
+
+		cache.exchange(URI, request, operations);
+
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedResponses() {
+
+		respondWith(response("body", "max-age=60", null));
+
+		for (int i = 0; i < 3; i++) {
+			cache.exchange(java.net.URI.create("http://localhost/" + i), request, operations);
+		}
+
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getEvictionCount(), is(1L));
+	}
+
+	private void respondWith(ResponseEntity<String> response) {
+		when(operations.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenReturn(response);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private HttpHeaders getLastRequestHeaders() {
+
+		ArgumentCaptor<HttpEntity> captor = ArgumentCaptor.forClass(HttpEntity.class);
+		verify(operations, atLeastOnce()).exchange(any(URI.class), eq(HttpMethod.GET), captor.capture(), eq(String.class));
+
+		return captor.getValue().getHeaders();
+	}
+
+	private static ResponseEntity<String> response(String body, String cacheControl, String etag) {
+
+		HttpHeaders headers = new HttpHeaders();
+
+		if (cacheControl != null) {
+			headers.setCacheControl(cacheControl);
+		}
+
+		if (etag != null) {
+			headers.setETag(etag);
+		}
+
+		return new ResponseEntity<String>(body, headers, HttpStatus.OK);
+	}
+}
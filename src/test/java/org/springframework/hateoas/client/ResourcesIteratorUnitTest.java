@@ -0,0 +1,204 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestOperations;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Unit tests for {@link ResourcesIterator}.
+ *
+ * @author Oliver Gierke
+ */
+public class ResourcesIteratorUnitTest {
+
+	static final ParameterizedTypeReference<Resources<String>> TYPE = new ParameterizedTypeReference<Resources<String>>() {};
+	static final HttpEntity<Void> REQUEST = new HttpEntity<Void>((Void) null);
+
+	AsyncRestOperations operations = mock(AsyncRestOperations.class);
+
+	@Test
+	public void prefetchesFollowingPageWhileConsumingCurrentOne() {
+
+		SettableListenableFuture<ResponseEntity<Resources<String>>> first = expectRequestTo("/1");
+		SettableListenableFuture<ResponseEntity<Resources<String>>> second = expectRequestTo("/2");
+		SettableListenableFuture<ResponseEntity<Resources<String>>> third = expectRequestTo("/3");
+
+		ResourcesIterator<String> iterator = new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, 1);
+
+		first.set(page("/2", "a", "b"));
+		verifyRequestTo("/2", never());
+
+		assertThat(iterator.next(), is("a"));
+		verifyRequestTo("/2", times(1));
+
+		second.set(page("/3", "c"));
+
+		assertThat(iterator.next(), is("b"));
+		verifyRequestTo("/3", never());
+
+		assertThat(iterator.next(), is("c"));
+		verifyRequestTo("/3", times(1));
+
+		third.set(page(null, "d"));
+
+		assertThat(iterator.next(), is("d"));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.getFetchedPageCount(), is(3L));
+	}
+
+	@Test
+	public void requestsPagesOnDemandWithoutPrefetch() {
+
+		SettableListenableFuture<ResponseEntity<Resources<String>>> first = expectRequestTo("/1");
+		SettableListenableFuture<ResponseEntity<Resources<String>>> second = expectRequestTo("/2");
+
+		ResourcesIterator<String> iterator = new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, 0);
+
+		first.set(page("/2", "a"));
+		second.set(page(null, "b"));
+
+		assertThat(iterator.next(), is("a"));
+		verifyRequestTo("/2", never());
+
+		assertThat(toList(iterator), contains("b"));
+		verifyRequestTo("/2", times(1));
+	}
+
+	@Test
+	public void prefetchesConfiguredNumberOfPages() {
+
+		SettableListenableFuture<ResponseEntity<Resources<String>>> first = expectRequestTo("/1");
+		SettableListenableFuture<ResponseEntity<Resources<String>>> second = expectRequestTo("/2");
+		SettableListenableFuture<ResponseEntity<Resources<String>>> third = expectRequestTo("/3");
+		expectRequestTo("/4");
+
+		first.set(page("/2", "a"));
+		second.set(page("/3", "b"));
+		third.set(page("/4", "c"));
+
+		ResourcesIterator<String> iterator = new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, 2);
+
+		verifyRequestTo("/2", times(1));
+		verifyRequestTo("/3", never());
+
+		assertThat(iterator.next(), is("a"));
+		verifyRequestTo("/3", times(1));
+		verifyRequestTo("/4", never());
+
+		assertThat(iterator.next(), is("b"));
+		verifyRequestTo("/4", times(1));
+	}
+
+	@Test
+	public void closingCancelsRequestInFlight() {
+
+		SettableListenableFuture<ResponseEntity<Resources<String>>> first = expectRequestTo("/1");
+		SettableListenableFuture<ResponseEntity<Resources<String>>> second = expectRequestTo("/2");
+
+		ResourcesIterator<String> iterator = new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, 1);
+
+		first.set(page("/2", "a", "b"));
+
+		assertThat(iterator.next(), is("a"));
+
+		iterator.close();
+
+		assertThat(second.isCancelled(), is(true));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test(expected = RestClientException.class)
+	public void propagatesFailureOfPageRequest() {
+
+		SettableListenableFuture<ResponseEntity<Resources<String>>> first = expectRequestTo("/1");
+		first.setException(new RestClientException("Boom!"));
+
+		new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, 1).hasNext();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void doesNotSupportRemoval() {
+
+		expectRequestTo("/1").set(page(null, "a"));
+
+		ResourcesIterator<String> iterator = new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, 1);
+		iterator.next();
+		iterator.remove();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativePrefetch() {
+		new ResourcesIterator<String>(URI.create("/1"), REQUEST, operations, TYPE, -1);
+	}
+
+	private SettableListenableFuture<ResponseEntity<Resources<String>>> expectRequestTo(String uri) {
+
+		SettableListenableFuture<ResponseEntity<Resources<String>>> future = //
+				new SettableListenableFuture<ResponseEntity<Resources<String>>>();
+
+		doReturn(future).when(operations).exchange(eq(URI.create(uri)), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(TYPE));
+
+		return future;
+	}
+
+	private void verifyRequestTo(String uri, org.mockito.verification.VerificationMode mode) {
+		verify(operations, mode).exchange(eq(URI.create(uri)), eq(HttpMethod.GET), any(HttpEntity.class), eq(TYPE));
+	}
+
+	private static ResponseEntity<Resources<String>> page(String next, String... content) {
+
+		Resources<String> resources = new Resources<String>(Arrays.asList(content));
+
+		if (next != null) {
+			resources.add(new Link(next, Link.REL_NEXT));
+		}
+
+		return new ResponseEntity<Resources<String>>(resources, HttpStatus.OK);
+	}
+
+	private static List<String> toList(ResourcesIterator<String> iterator) {
+
+		List<String> result = new ArrayList<String>();
+
+		while (iterator.hasNext()) {
+			result.add(iterator.next());
+		}
+
+		return result;
+	}
+}
@@ -22,11 +22,15 @@ import static org.springframework.hateoas.client.Hop.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -35,17 +39,25 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.client.Traverson.TraversalBuilder;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.AsyncClientHttpRequestExecution;
+import org.springframework.http.client.AsyncClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.client.AsyncRestTemplate;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -373,6 +385,312 @@ public class TraversonTest {
 				equalTo(server.rootResource() + "/springagram/items"));
 	}
 
+	@Test
+	public void readsAsyncTraversalIntoJsonPathExpression() throws Exception {
+
+		ListenableFuture<String> name = traverson.follow("movies", "movie", "actor").async().toObject("$.name");
+
+		assertThat(name.get(5, TimeUnit.SECONDS), is("Keanu Reaves"));
+	}
+
+	@Test
+	public void readsAsyncTraversalIntoResourceInstance() throws Exception {
+
+		ParameterizedTypeReference<Resource<Actor>> typeReference = new ParameterizedTypeReference<Resource<Actor>>() {};
+		Resource<Actor> result = traverson.follow("movies", "movie", "actor").async().toObject(typeReference).get(5,
+				TimeUnit.SECONDS);
+
+		assertThat(result.getContent().name, is("Keanu Reaves"));
+	}
+
+	@Test
+	public void returnsEntityAndLinksForAsyncTraversal() throws Exception {
+
+		TraversalBuilder builder = traverson.follow("movies", "movie");
+
+		ResponseEntity<String> entity = builder.async().toEntity(String.class).get(5, TimeUnit.SECONDS);
+		Link link = builder.async().asLink().get(5, TimeUnit.SECONDS);
+
+		assertThat(entity.getBody(), containsString("The Matrix"));
+		assertThat(link, is(builder.asLink()));
+		assertThat(builder.async().asTemplatedLink().get(5, TimeUnit.SECONDS), is(builder.asTemplatedLink()));
+	}
+
+	@Test
+	public void reportsMissingLinkThroughAsyncResult() throws Exception {
+
+		try {
+			traverson.follow("movies", "unknown").async().toObject(String.class).get(5, TimeUnit.SECONDS);
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException o_O) {
+			assertThat(o_O.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+	@Test
+	public void allowsCustomizingAsyncRestTemplate() throws Exception {
+
+		final AtomicInteger intercepted = new AtomicInteger();
+
+		AsyncRestTemplate template = new AsyncRestTemplate();
+		template.setMessageConverters(Traverson.getDefaultMessageConverters(MediaTypes.HAL_JSON));
+		template.setInterceptors(Arrays.<AsyncClientHttpRequestInterceptor> asList(new AsyncClientHttpRequestInterceptor() {
+
+			@Override
+			public ListenableFuture<ClientHttpResponse> intercept(HttpRequest request, byte[] body,
+					AsyncClientHttpRequestExecution execution) throws IOException {
+
+				intercepted.incrementAndGet();
+				return execution.executeAsync(request, body);
+			}
+		}));
+
+		traverson.setAsyncRestOperations(template);
+
+		assertThat(traverson.follow("movies", "movie", "actor").async().<String> toObject("$.name").get(5,
+				TimeUnit.SECONDS), is("Keanu Reaves"));
+		assertThat(intercepted.get(), is(4));
+	}
+
+	@Test
+	public void readsFinalRepresentationUsingCharsetOfContentType() throws Exception {
+
+		onRequest().havingPathEqualTo("/latin").respond() //
+				.withContentType("application/hal+json;charset=ISO-8859-1") //
+				.withBody("{ \"name\" : \"J\u00fcrgen\" }".getBytes("ISO-8859-1"));
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/latin"), MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow().<String> toObject("$.name"), is("J\u00fcrgen"));
+		assertThat(traverson.follow().async().<String> toObject("$.name").get(5, TimeUnit.SECONDS), is("J\u00fcrgen"));
+	}
+
+	@Test
+	public void followsLinksInHopUsingCharsetOfContentType() throws Exception {
+
+		String target = server.rootResource() + "/m\u00fcller";
+
+		onRequest().havingPathEqualTo("/latin-hop").respond() //
+				.withContentType("application/hal+json;charset=ISO-8859-1") //
+				.withBody(("{ \"_links\" : { \"next\" : { \"href\" : \"" + target + "\" } } }").getBytes("ISO-8859-1"));
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/latin-hop"), MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow("next").asLink().getHref(), is(target));
+		assertThat(traverson.follow("$._links.next.href").asLink().getHref(), is(target));
+	}
+
+	@Test
+	public void reportsUriOfResponseMissingTheLinkToFollow() {
+
+		onRequest().havingPathEqualTo("/missing").respond().withBody("{ \"_links\" : { } }");
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/missing"), MediaTypes.HAL_JSON);
+
+		try {
+			traverson.follow("next").asLink();
+			fail("Expected IllegalStateException!");
+		} catch (IllegalStateException o_O) {
+			assertThat(o_O.getMessage(), containsString("'next'"));
+			assertThat(o_O.getMessage(), containsString("/missing"));
+		}
+	}
+
+	@Test
+	public void iteratesContentOfAllPages() {
+
+		for (int i = 1; i <= 3; i++) {
+
+			String next = i == 3 ? "" : ", \"_links\" : { \"next\" : { \"href\" : \"" + server.rootResource() + "/pages/"
+					+ (i + 1) + "\" } }";
+
+			onRequest().havingPathEqualTo("/pages/" + i).respond() //
+					.withBody("{ \"_embedded\" : { \"actors\" : [ { \"name\" : \"" + i + "a\" }, { \"name\" : \"" + i
+							+ "b\" } ] }" + next + " }");
+		}
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/pages/1"), MediaTypes.HAL_JSON);
+
+		ResourcesIterator<Actor> iterator = traverson.follow()
+				.toIterator(new ParameterizedTypeReference<Resources<Actor>>() {});
+		List<String> names = new ArrayList<String>();
+
+		while (iterator.hasNext()) {
+			names.add(iterator.next().name);
+		}
+
+		assertThat(names, contains("1a", "1b", "2a", "2b", "3a", "3b"));
+		assertThat(iterator.getFetchedPageCount(), is(3L));
+	}
+
+	@Test
+	public void fansOutToEmbeddedItems() {
+
+		StringBuilder orders = new StringBuilder();
+
+		for (int i = 0; i < 6; i++) {
+
+			onRequest().havingPathEqualTo("/customers/" + i).respond() //
+					.withBody("{ \"name\" : \"Customer " + i + "\" }");
+			onRequest().havingPathEqualTo("/orders/" + i).respond() //
+					.withBody("{ \"_links\" : { \"customer\" : { \"href\" : \"" + server.rootResource() + "/customers/"
+							+ i + "\" } } }");
+
+			orders.append(i == 0 ? "" : ", ").append("{ \"_links\" : { \"self\" : { \"href\" : \"")
+					.append(server.rootResource()).append("/orders/").append(i).append("\" } } }");
+		}
+
+		onRequest().havingPathEqualTo("/orders").respond() //
+				.withBody("{ \"_embedded\" : { \"orders\" : [ " + orders + " ] } }");
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/orders"), MediaTypes.HAL_JSON);
+
+		List<String> names = traverson.follow() //
+				.fanOut("$._embedded.orders[*]._links.self.href") //
+				.follow("customer") //
+				.withParallelism(2) //
+				.toObject("$.name");
+
+		assertThat(names, contains("Customer 0", "Customer 1", "Customer 2", "Customer 3", "Customer 4", "Customer 5"));
+
+		List<Link> links = traverson.follow().fanOut("$._embedded.orders[*]._links.self.href").follow("customer").asLink();
+
+		assertThat(links, hasSize(6));
+		assertThat(links.get(3).getHref(), endsWith("/customers/3"));
+	}
+
+	@Test
+	public void servesFreshHopsFromResponseCache() {
+
+		onRequest().havingPathEqualTo("/cached").respond() //
+				.withHeader("Cache-Control", "max-age=60") //
+				.withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + server.rootResource() + "/cached/next\" } } }");
+		onRequest().havingPathEqualTo("/cached/next").respond().withBody("{ \"name\" : \"Keanu Reaves\" }");
+
+		HopResponseCache cache = new HopResponseCache(16);
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/cached"), MediaTypes.HAL_JSON);
+		this.traverson.setHopResponseCache(cache);
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(traverson.follow("next").<String> toObject("$.name"), is("Keanu Reaves"));
+		}
+
+		verifyThatRequest().havingPathEqualTo("/cached").receivedOnce();
+		verifyThatRequest().havingPathEqualTo("/cached/next").receivedTimes(2);
+
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+	}
+
+	@Test
+	public void revalidatesCachedHopsUsingETag() throws Exception {
+
+		onRequest().havingPathEqualTo("/validated").respond() //
+				.withHeader("ETag", "\"v1\"") //
+				.withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + server.rootResource() + "/validated/next\" } } }");
+		onRequest().havingPathEqualTo("/validated").havingHeaderEqualTo("If-None-Match", "\"v1\"").respond() //
+				.withStatus(304) //
+				.withHeader("ETag", "\"v1\"");
+		onRequest().havingPathEqualTo("/validated/next").respond().withBody("{ \"name\" : \"Keanu Reaves\" }");
+
+		HopResponseCache cache = new HopResponseCache(16);
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/validated"), MediaTypes.HAL_JSON);
+		this.traverson.setHopResponseCache(cache);
+
+		assertThat(traverson.follow("next").<String> toObject("$.name"), is("Keanu Reaves"));
+		assertThat(traverson.follow("next").async().<String> toObject("$.name").get(5, TimeUnit.SECONDS),
+				is("Keanu Reaves"));
+
+		verifyThatRequest().havingPathEqualTo("/validated").havingHeaderEqualTo("If-None-Match", "\"v1\"")
+				.receivedOnce();
+
+		assertThat(cache.getRevalidationCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+	}
+
+	@Test
+	public void traversesUsingHopRequestCoalescer() throws Exception {
+
+		HopRequestCoalescer coalescer = new HopRequestCoalescer();
+		this.traverson.setHopRequestCoalescer(coalescer);
+
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name"), is("Keanu Reaves"));
+		assertThat(traverson.follow("movies", "movie", "actor").async().<String> toObject("$.name").get(5,
+				TimeUnit.SECONDS), is("Keanu Reaves"));
+
+		assertThat(coalescer.getRequestCount(), is(6L));
+		assertThat(coalescer.getInFlightCount(), is(0));
+	}
+
+	@Test
+	public void sharesDefaultInfrastructureBetweenInstances() {
+
+		Traverson first = new Traverson(URI.create(server.rootResource()), MediaTypes.HAL_JSON);
+		Traverson second = new Traverson(URI.create(server.rootResource()), MediaTypes.HAL_JSON);
+
+		assertThat(ReflectionTestUtils.getField(second, "operations"),
+				is(sameInstance(ReflectionTestUtils.getField(first, "operations"))));
+
+		RestTemplate template = (RestTemplate) ReflectionTestUtils.getField(first, "operations");
+		AsyncRestTemplate asyncTemplate = (AsyncRestTemplate) ReflectionTestUtils.invokeMethod(first,
+				"getAsyncOperations");
+
+		assertThat(getHalConverter(asyncTemplate.getMessageConverters()).getObjectMapper(),
+				is(sameInstance(getHalConverter(template.getMessageConverters()).getObjectMapper())));
+	}
+
+	@Test
+	public void issuesDefaultAsyncRequestsOnBoundedPool() {
+
+		AsyncRestTemplate template = (AsyncRestTemplate) ReflectionTestUtils.invokeMethod(traverson, "getAsyncOperations");
+		Object executor = ReflectionTestUtils.getField(template.getAsyncRequestFactory(), "taskExecutor");
+
+		assertThat(executor, is(instanceOf(ThreadPoolTaskExecutor.class)));
+		assertThat(((ThreadPoolTaskExecutor) executor).getMaxPoolSize(), is(8));
+	}
+
+	@Test
+	public void handsOutIndependentDefaultConverters() {
+
+		RestTemplate template = (RestTemplate) ReflectionTestUtils.getField(traverson, "operations");
+		MappingJackson2HttpMessageConverter shared = getHalConverter(template.getMessageConverters());
+
+		MappingJackson2HttpMessageConverter converter = getHalConverter(
+				Traverson.getDefaultMessageConverters(Arrays.asList(MediaTypes.HAL_JSON)));
+		MappingJackson2HttpMessageConverter other = getHalConverter(
+				Traverson.getDefaultMessageConverters(Arrays.asList(MediaTypes.HAL_JSON)));
+
+		assertThat(other, is(not(sameInstance(converter))));
+		assertThat(other.getObjectMapper(), is(not(sameInstance(converter.getObjectMapper()))));
+		assertThat(converter.getObjectMapper(), is(not(sameInstance(shared.getObjectMapper()))));
+	}
+
+	@Test
+	public void doesNotShareCustomizedOperations() {
+
+		Traverson first = new Traverson(URI.create(server.rootResource()), MediaTypes.HAL_JSON);
+		Traverson second = new Traverson(URI.create(server.rootResource()), MediaTypes.HAL_JSON);
+
+		RestTemplate template = new RestTemplate();
+		first.setRestOperations(template);
+
+		assertThat(ReflectionTestUtils.getField(first, "operations"), is((Object) template));
+		assertThat(ReflectionTestUtils.getField(second, "operations"), is(not((Object) template)));
+	}
+
+	private static MappingJackson2HttpMessageConverter getHalConverter(List<HttpMessageConverter<?>> converters) {
+
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter instanceof MappingJackson2HttpMessageConverter) {
+				return (MappingJackson2HttpMessageConverter) converter;
+			}
+		}
+
+		throw new IllegalStateException("No HAL converter registered!");
+	}
+
 	private void setUpActors() {
 
 		Resource<Actor> actor = new Resource<Actor>(new Actor("Keanu Reaves"));
@@ -20,12 +20,15 @@ import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.hateoas.Links;
 
 /**
  * Base class for unit tests for {@link LinkDiscoverer} implementations.
@@ -78,12 +81,42 @@ public abstract class AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().findLinkWithRel("something", getInputStringWithoutLinkContainer()), is(nullValue()));
 	}
 
+	@Test
+	public void findsLinksWithMultipleRels() {
+
+		Links links = getDiscoverer().findLinksWithRels(Arrays.asList("self", "relation", "something"), getInputString());
+
+		assertThat(links.getLink(Link.REL_SELF), is(new Link("selfHref")));
+		assertThat(links.getLinks("relation"),
+				contains(new Link("firstHref", "relation"), new Link("secondHref", "relation")));
+		assertThat(links.getLink("something"), is(nullValue()));
+	}
+
+	@Test
+	public void findsLinksWithMultipleRelsFromInputStream() throws Exception {
+
+		InputStream inputStream = new ByteArrayInputStream(getInputString().getBytes("UTF-8"));
+		Links links = getDiscoverer().findLinksWithRels(Arrays.asList("self", "relation"), inputStream);
+
+		assertThat(links.getLink(Link.REL_SELF), is(new Link("selfHref")));
+		assertThat(links.getLinks("relation"), hasSize(2));
+	}
+
+	@Test
+	public void findsNoLinksWithMultipleRelsForNonExistingLinkContainer() {
+
+		Links links = getDiscoverer().findLinksWithRels(Arrays.asList("self", "something"),
+				getInputStringWithoutLinkContainer());
+
+		assertThat(links.getLink(Link.REL_SELF), is(nullValue()));
+	}
+
 	/**
 	 * Return the {@link LinkDiscoverer} to be tested.
 	 * 
 	 * @return
 	 */
-	protected abstract LinkDiscoverer getDiscoverer();
+	protected abstract MultiRelLinkDiscoverer getDiscoverer();
 
 	/**
 	 * Return the JSON structure we expect to find the links in.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas.core;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
 import org.junit.Test;
+import org.springframework.hateoas.Link;
 
 /**
  * Unit tests for {@link JsonPathLinkDiscoverer}.
@@ -38,4 +42,26 @@ public class JsonPathLinkDiscovererUnitTest {
 	public void rejectsPatternWithMultiplePlaceholders() {
 		new JsonPathLinkDiscoverer("$links%s%s", null);
 	}
+
+	@Test
+	public void reusesCompiledExpressionForRel() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links[?(@.rel == '%s')].href", null);
+
+		assertThat(discoverer.getExpression("self"), is(sameInstance(discoverer.getExpression("self"))));
+		assertThat(discoverer.getExpression("self"), is(not(sameInstance(discoverer.getExpression("next")))));
+	}
+
+	@Test
+	public void stillFindsLinksOnceExpressionCacheIsFull() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links.%s", null);
+
+		for (int i = 0; i < JsonPathLinkDiscoverer.MAX_CACHED_EXPRESSIONS; i++) {
+			discoverer.getExpression("rel" + i);
+		}
+
+		assertThat(discoverer.findLinkWithRel("foo", "{ \"links\" : { \"foo\" : \"/foo\" } }"),
+				is(new Link("/foo", "foo")));
+	}
 }
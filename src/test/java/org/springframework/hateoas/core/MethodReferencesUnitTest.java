@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.asm.Type;
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.hateoas.core.MethodReferences.MethodReference0;
+import org.springframework.hateoas.core.MethodReferences.MethodReference1;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Unit tests for {@link MethodReferences}. As the project is compiled against Java 6, the {@code SerializedLambda}s the
+ * Java 8 compiler would generate for method references are emulated.
+ *
+ * @author Oliver Gierke
+ */
+public class MethodReferencesUnitTest {
+
+	static final String SERIALIZED_LAMBDA = "java.lang.invoke.SerializedLambda";
+
+	@Before
+	public void setUp() {
+		assumeTrue(ClassUtils.isPresent(SERIALIZED_LAMBDA, getClass().getClassLoader()));
+	}
+
+	@Test
+	public void resolvesReferencedMethod() throws Exception {
+
+		MethodReference1<Sample, Long> reference = new MethodReference1<Sample, Long>() {
+
+			@Override
+			public Object invoke(Sample controller, Long first) {
+				throw new UnsupportedOperationException();
+			}
+
+			@SuppressWarnings("unused")
+			Object writeReplace() throws Exception {
+				return serializedLambda(Sample.class, Sample.class.getMethod("method", Long.class));
+			}
+		};
+
+		MethodInvocation invocation = MethodReferences.invocationOf(reference, 1L);
+
+		assertThat(invocation.getMethod(), is(Sample.class.getMethod("method", Long.class)));
+		assertThat(invocation.getTargetType(), is(typeCompatibleWith(Sample.class)));
+		assertThat(invocation.getArguments(), is(arrayContaining((Object) 1L)));
+	}
+
+	@Test
+	public void usesReferencedTypeAsTargetType() throws Exception {
+
+		MethodReference1<SampleSubclass, Long> reference = new MethodReference1<SampleSubclass, Long>() {
+
+			@Override
+			public Object invoke(SampleSubclass controller, Long first) {
+				throw new UnsupportedOperationException();
+			}
+
+			@SuppressWarnings("unused")
+			Object writeReplace() throws Exception {
+				return serializedLambda(SampleSubclass.class, Sample.class.getMethod("method", Long.class));
+			}
+		};
+
+		MethodInvocation invocation = MethodReferences.invocationOf(reference, 1L);
+
+		assertThat(invocation.getTargetType(), is(typeCompatibleWith(SampleSubclass.class)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidNumberOfArguments() throws Exception {
+
+		MethodReference0<Sample> reference = new MethodReference0<Sample>() {
+
+			@Override
+			public Object invoke(Sample controller) {
+				throw new UnsupportedOperationException();
+			}
+
+			@SuppressWarnings("unused")
+			Object writeReplace() throws Exception {
+				return serializedLambda(Sample.class, Sample.class.getMethod("method"));
+			}
+		};
+
+		MethodReferences.invocationOf(reference, 1L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonLambdaImplementation() {
+
+		MethodReferences.getMethod(new MethodReference0<Sample>() {
+
+			@Override
+			public Object invoke(Sample controller) {
+				throw new UnsupportedOperationException();
+			}
+		});
+	}
+
+	/**
+	 * Creates the {@code SerializedLambda} the Java 8 compiler would create for a reference to the given {@link Method}
+	 * on the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public static Object serializedLambda(Class<?> type, Method method) throws Exception {
+
+		Class<?> lambdaType = ClassUtils.forName(SERIALIZED_LAMBDA, MethodReferencesUnitTest.class.getClassLoader());
+		Constructor<?> constructor = lambdaType.getConstructor(Class.class, String.class, String.class, String.class,
+				int.class, String.class, String.class, String.class, String.class, Object[].class);
+
+		StringBuilder instantiated = new StringBuilder("(").append(Type.getDescriptor(type));
+
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			instantiated.append(Type.getDescriptor(ClassUtils.resolvePrimitiveIfNecessary(parameterType)));
+		}
+
+		instantiated.append(")Ljava/lang/Object;");
+
+		return constructor.newInstance(MethodReferencesUnitTest.class, "", "invoke", "", 5,
+				Type.getInternalName(method.getDeclaringClass()), method.getName(), Type.getMethodDescriptor(method),
+				instantiated.toString(), new Object[0]);
+	}
+
+	static class Sample {
+
+		public Object method() {
+			return null;
+		}
+
+		public Object method(Long id) {
+			return null;
+		}
+	}
+
+	static class SampleSubclass extends Sample {}
+}
@@ -19,7 +19,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import org.junit.Test;
-import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
 import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
 
 /**
@@ -29,7 +29,7 @@ import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
  */
 public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 
-	static final LinkDiscoverer discoverer = new HalLinkDiscoverer();
+	static final MultiRelLinkDiscoverer discoverer = new HalLinkDiscoverer();
 	static final String SAMPLE = "{ _links : { self : { href : 'selfHref' }, " + //
 			"relation : [ { href : 'firstHref' }, { href : 'secondHref' }], " + //
 			"'http://foo.com/bar' : { href : 'fullRelHref' }, " + "}}";
@@ -43,7 +43,7 @@ public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 	}
 
 	@Override
-	protected LinkDiscoverer getDiscoverer() {
+	protected MultiRelLinkDiscoverer getDiscoverer() {
 		return discoverer;
 	}
 
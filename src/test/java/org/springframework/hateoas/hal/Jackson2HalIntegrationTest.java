@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
@@ -40,9 +41,11 @@ import org.springframework.hateoas.PagedResources.PageMetadata;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrappers;
+import org.springframework.hateoas.core.EvoInflectorRelProvider;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -395,6 +398,58 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resources), is("{\"_embedded\":{\"pojos\":[]}}"));
 	}
 
+	@Test
+	public void rendersStreamingResourcesIteratingSourceOnlyOnce() throws Exception {
+
+		Resources<Resource<SimplePojo>> resources = new StreamingResources<Resource<SimplePojo>>(
+				new OneShotIterable<Resource<SimplePojo>>(setupResources().getContent()));
+		resources.add(new Link("localhost"));
+
+		assertThat(write(resources), is(LIST_EMBEDDED_RESOURCE_REFERENCE));
+	}
+
+	@Test
+	public void streamingGroupsElementsOfDifferentRels() throws Exception {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(new EvoInflectorRelProvider(), null, null, false));
+
+		List<Object> content = Arrays.<Object> asList("foo", 1L, "bar", 2, "foobar");
+
+		assertThat(mapper.writeValueAsString(new StreamingResources<Object>(new OneShotIterable<Object>(content))),
+				is("{\"_embedded\":{\"strings\":[\"foo\",\"bar\",\"foobar\"],\"long\":1,\"integer\":2}}"));
+		assertThat(mapper.writeValueAsString(new Resources<Object>(content)),
+				is("{\"_embedded\":{\"strings\":[\"foo\",\"bar\",\"foobar\"],\"long\":1,\"integer\":2}}"));
+	}
+
+	@Test
+	public void rendersCuriesForCuriedStreamingEmbeds() throws Exception {
+
+		Resources<Resource<SimpleAnnotatedPojo>> resources = new StreamingResources<Resource<SimpleAnnotatedPojo>>(
+				new OneShotIterable<Resource<SimpleAnnotatedPojo>>(setupAnnotatedResources().getContent()));
+
+		String result = getCuriedObjectMapper().writeValueAsString(resources);
+
+		assertThat(result, startsWith("{\"_embedded\":{\"foo:pojos\":[{\"text\":\"test1\""));
+		assertThat(result, endsWith(
+				"\"_links\":{\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"foo\",\"templated\":true}]}}"));
+	}
+
+	@Test
+	public void rendersCuriesForCuriedEmbedsConsistently() throws Exception {
+
+		Resources<Resource<SimpleAnnotatedPojo>> resources = setupAnnotatedResources();
+		resources.add(new Link("localhost"));
+
+		ObjectMapper mapper = getCuriedObjectMapper();
+		String result = mapper.writeValueAsString(resources);
+
+		assertThat(result, endsWith(
+				"\"_links\":{\"self\":{\"href\":\"localhost\"},\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"foo\",\"templated\":true}]}}"));
+		assertThat(mapper.writeValueAsString(resources), is(result));
+	}
+
 	/**
 	 * @see #378
 	 */
@@ -468,4 +523,23 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 
 		return mapper;
 	}
+
+	static class OneShotIterable<T> implements Iterable<T> {
+
+		private final Iterable<T> delegate;
+		private boolean iterated = false;
+
+		public OneShotIterable(Iterable<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+
+			assertThat("Source must only be iterated once!", iterated, is(false));
+			this.iterated = true;
+
+			return delegate.iterator();
+		}
+	}
 }
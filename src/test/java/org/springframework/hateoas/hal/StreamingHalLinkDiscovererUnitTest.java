@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.hateoas.Links;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Unit tests for {@link StreamingHalLinkDiscoverer}. Runs the {@link HalLinkDiscoverer} tests, which use JSON Jackson
+ * can't read and thus verify the fallback, and additional ones for strict JSON.
+ *
+ * @author Oliver Gierke
+ */
+public class StreamingHalLinkDiscovererUnitTest extends HalLinkDiscovererUnitTest {
+
+	static final MultiRelLinkDiscoverer streamingDiscoverer = new StreamingHalLinkDiscoverer();
+	static final String EMBEDDED_FIRST = "{ \"_embedded\" : { \"people\" : [ " //
+			+ "{ \"_links\" : { \"next\" : { \"href\" : \"/embedded\" } } } ] }, "
+			+ "\"_links\" : { \"self\" : { \"href\" : \"/people\", \"templated\" : false }, "
+			+ "\"next\" : [ { \"title\" : \"first\", \"href\" : \"/people?page=1\" }, { \"href\" : \"/people?page=2\" } ] } }";
+
+	@Test
+	public void ignoresLinksInsideEmbeddedResources() {
+
+		assertThat(getDiscoverer().findLinkWithRel("next", EMBEDDED_FIRST), is(new Link("/people?page=1", "next")));
+		assertThat(getDiscoverer().findLinksWithRel("next", EMBEDDED_FIRST),
+				contains(new Link("/people?page=1", "next"), new Link("/people?page=2", "next")));
+		assertThat(getDiscoverer().findLinkWithRel("self", EMBEDDED_FIRST), is(new Link("/people")));
+	}
+
+	@Test
+	public void findsLinksInInputStream() throws Exception {
+
+		InputStream stream = new ByteArrayInputStream(EMBEDDED_FIRST.getBytes("UTF-8"));
+
+		assertThat(getDiscoverer().findLinksWithRel("next", stream),
+				contains(new Link("/people?page=1", "next"), new Link("/people?page=2", "next")));
+	}
+
+	@Test
+	public void fallsBackToJsonPathForInputStreamJacksonCannotRead() throws Exception {
+
+		InputStream stream = new ByteArrayInputStream(getInputString().getBytes("UTF-8"));
+
+		assertThat(getDiscoverer().findLinkWithRel("relation", stream), is(new Link("firstHref", "relation")));
+	}
+
+	@Test
+	public void doesNotRetainLargeInputStreamForFallback() throws Exception {
+
+		StringBuilder builder = new StringBuilder("{ \"_embedded\" : { \"people\" : [ ");
+
+		for (int i = 0; i < 1000; i++) {
+			builder.append(i == 0 ? "" : ", ").append("{ \"name\" : \"Person ").append(i).append("\" }");
+		}
+
+		String source = builder.append(" ] }, \"_links\" : { \"self\" : { \"href\" : \"/people\" }, } }").toString();
+		InputStream stream = new BufferedInputStream(new ByteArrayInputStream(source.getBytes("UTF-8")));
+
+		try {
+			getDiscoverer().findLinkWithRel("next", stream);
+			fail("Expected RuntimeException!");
+		} catch (RuntimeException o_O) {
+			assertThat(o_O.getCause(), is(instanceOf(JsonProcessingException.class)));
+		}
+	}
+
+	@Test
+	public void findsSameLinksAsHalLinkDiscovererInHalDocuments() throws Exception {
+
+		String source = "{ \"_links\" : { " //
+				+ "\"self\" : { \"href\" : \"/orders\" }, " //
+				+ "\"next\" : { \"href\" : \"/orders?page=2\" }, " //
+				+ "\"find\" : { \"href\" : \"/orders{?id}\", \"templated\" : true }, " //
+				+ "\"curies\" : [ { \"name\" : \"ea\", \"href\" : \"http://example.com/docs/rels/{rel}\", \"templated\" : true } ], " //
+				+ "\"ea:admin\" : [ { \"href\" : \"/admins/2\", \"title\" : \"Fred\" }, { \"href\" : \"/admins/5\", \"title\" : \"Kate\" } ] }, " //
+				+ "\"currentlyProcessing\" : 14, " //
+				+ "\"_embedded\" : { \"ea:order\" : [ { \"_links\" : { \"self\" : { \"href\" : \"/orders/123\" }, " //
+				+ "\"ea:customer\" : { \"href\" : \"/customers/7809\" } }, \"total\" : 30.00 } ] } }";
+
+		for (String rel : Arrays.asList("self", "next", "find", "curies", "ea:admin", "ea:customer", "missing")) {
+
+			assertThat(rel, streamingDiscoverer.findLinksWithRel(rel, source), is(discoverer.findLinksWithRel(rel, source)));
+			assertThat(rel, streamingDiscoverer.findLinkWithRel(rel, source), is(discoverer.findLinkWithRel(rel, source)));
+			assertThat(rel, streamingDiscoverer.findLinksWithRel(rel, new ByteArrayInputStream(source.getBytes("UTF-8"))),
+					is(discoverer.findLinksWithRel(rel, new ByteArrayInputStream(source.getBytes("UTF-8")))));
+		}
+
+		assertThat(streamingDiscoverer.findLinksWithRels(Arrays.asList("self", "ea:admin"), source),
+				is(discoverer.findLinksWithRels(Arrays.asList("self", "ea:admin"), source)));
+	}
+
+	@Test
+	public void onlyConsidersLinkObjectsDirectlyRegisteredForRel() {
+
+		String source = "{ \"_links\" : { \"foo\" : { \"bar\" : { \"href\" : \"/nested\" } } } }";
+
+		// JsonPath based discoverer scans nested levels of _links
+		assertThat(discoverer.findLinkWithRel("foo", source), is(new Link("/nested", "foo")));
+		assertThat(discoverer.findLinkWithRel("bar", source), is(new Link("/nested", "bar")));
+
+		assertThat(streamingDiscoverer.findLinkWithRel("foo", source), is(nullValue()));
+		assertThat(streamingDiscoverer.findLinkWithRel("bar", source), is(nullValue()));
+	}
+
+	@Test
+	public void stopsParsingOnceLinkIsFound() {
+
+		// Truncated document, only readable up to the link requested
+		String source = "{ \"_links\" : { \"self\" : { \"href\" : \"/people\" }, \"next\" : { \"href\" : \"/people?page=1\" ";
+
+		assertThat(getDiscoverer().findLinkWithRel("self", source), is(new Link("/people")));
+		assertThat(getDiscoverer().findLinkWithRel("next", source), is(new Link("/people?page=1", "next")));
+	}
+
+	@Test
+	public void findsLinksWithMultipleRelsInDocumentOrder() {
+
+		Links links = getDiscoverer().findLinksWithRels(Arrays.asList("next", "self"), EMBEDDED_FIRST);
+
+		assertThat(links,
+				contains(new Link("/people"), new Link("/people?page=1", "next"), new Link("/people?page=2", "next")));
+	}
+
+	@Test
+	public void returnsNoLinksForNonObjectRoot() {
+
+		assertThat(getDiscoverer().findLinksWithRel("self", "[ { \"_links\" : {} } ]"), is(empty()));
+		assertThat(getDiscoverer().findLinkWithRel("self", "{ \"_links\" : { \"self\" : \"/people\" } }"), is(nullValue()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.hal.HalLinkDiscovererUnitTest#getDiscoverer()
+	 */
+	@Override
+	protected MultiRelLinkDiscoverer getDiscoverer() {
+		return streamingDiscoverer;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2015 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@ package org.springframework.hateoas.mvc;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.springframework.hateoas.core.MethodReferencesUnitTest.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.Arrays;
@@ -32,10 +34,12 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.core.MethodReferences.MethodReference2;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonControllerImpl;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
 import org.springframework.http.HttpEntity;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -174,6 +178,49 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref(), endsWith("/people/17/addresses"));
 	}
 
+	@Test
+	public void bindsArgumentsOfRepeatedInvocationsAgainstSameMapping() {
+
+		Link first = factory.linkTo(methodOn(PersonsAddressesController.class, 15).getAddressesForCountry("DE"))
+				.withSelfRel();
+		Link second = factory.linkTo(methodOn(PersonsAddressesController.class, 16).getAddressesForCountry("US"))
+				.withSelfRel();
+
+		assertThat(first.getHref(), endsWith("/people/15/addresses/DE"));
+		assertThat(second.getHref(), endsWith("/people/16/addresses/US"));
+	}
+
+	@Test
+	public void createsLinkToMethodReferenceApplyingContributors() throws Exception {
+
+		assumeTrue(ClassUtils.isPresent("java.lang.invoke.SerializedLambda", getClass().getClassLoader()));
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(new SampleUriComponentsContributor()));
+
+		SpecialType specialType = new SpecialType();
+		specialType.parameterValue = "value";
+
+		MethodReference2<SampleController, Long, SpecialType> reference = new MethodReference2<SampleController, Long, SpecialType>() {
+
+			@Override
+			public Object invoke(SampleController controller, Long first, SpecialType second) {
+				throw new UnsupportedOperationException();
+			}
+
+			@SuppressWarnings("unused")
+			Object writeReplace() throws Exception {
+				return serializedLambda(SampleController.class,
+						SampleController.class.getMethod("sampleMethod", Long.class, SpecialType.class));
+			}
+		};
+
+		Link link = factory.linkTo(reference, 1L, specialType).withSelfRel();
+
+		assertPointsToMockServer(link);
+		assertThat(link.getHref(), endsWith("/sample/1?foo=value"));
+	}
+
 	static interface SampleController {
 
 		@RequestMapping("/sample/{id}")
@@ -41,6 +41,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.WebUtils;
 
 /**
  * Unit tests for {@link ControllerLinkBuilder}.
@@ -554,6 +555,56 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), endsWith("/ctx/people"));
 	}
 
+	@Test
+	public void calculatesBaseUriOncePerRequest() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), startsWith("http://localhost"));
+		assertThat(request.getAttribute(ControllerLinkBuilder.BASE_URI_ATTRIBUTE), is(notNullValue()));
+
+		request.addHeader("X-Forwarded-Host", "foobar:8088");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), startsWith("http://localhost"));
+	}
+
+	@Test
+	public void usesPrePopulatedBaseUri() {
+
+		ControllerLinkBuilder.exposeBaseUri(request,
+				UriComponentsBuilder.fromUriString("https://example.com:8443/api").build());
+
+		assertThat(linkTo(methodOn(PersonsAddressesController.class, 15).getAddressesForCountry("DE")).withSelfRel()
+				.getHref(), is("https://example.com:8443/api/people/15/addresses/DE"));
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), is("https://example.com:8443/api/people"));
+	}
+
+	@Test
+	public void recalculatesBaseUriForForwardAndErrorDispatches() {
+
+		request.setServletPath("/api");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), is("http://localhost/api/people"));
+
+		request.setAttribute(WebUtils.FORWARD_REQUEST_URI_ATTRIBUTE, "/api/people");
+		request.setServletPath("/internal");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), is("http://localhost/internal/people"));
+
+		request.setAttribute(WebUtils.ERROR_REQUEST_URI_ATTRIBUTE, "/internal/people");
+		request.setServletPath("/error");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), is("http://localhost/error/people"));
+	}
+
+	@Test
+	public void appliesPrePopulatedBaseUriToCurrentDispatchOnly() {
+
+		ControllerLinkBuilder.exposeBaseUri(request, UriComponentsBuilder.fromUriString("https://example.com/api").build());
+
+		request.setAttribute(WebUtils.FORWARD_REQUEST_URI_ATTRIBUTE, "/people");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref(), is("http://localhost/people"));
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
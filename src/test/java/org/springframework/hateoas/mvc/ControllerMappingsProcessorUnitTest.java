@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * Unit tests for {@link ControllerMappingsProcessor}.
+ *
+ * @author Oliver Gierke
+ */
+public class ControllerMappingsProcessorUnitTest {
+
+	public @Rule TemporaryFolder folder = new TemporaryFolder();
+
+	JavaCompiler compiler;
+
+	@Before
+	public void setUp() {
+
+		compiler = ToolProvider.getSystemJavaCompiler();
+		assumeTrue(compiler != null);
+	}
+
+	@Test
+	public void generatesMappingsForController() throws Exception {
+
+		String source = compile("com/acme/CustomerController.java", //
+				"package com.acme;", //
+				"import org.springframework.web.bind.annotation.*;", //
+				"@RequestMapping(\"/customers/\")", //
+				"public class CustomerController {", //
+				"  @RequestMapping(\"/{id}\") public Object show(@PathVariable Long id) { return null; }", //
+				"  @RequestMapping(path = \"/{id}/orders\") public Object orders(@PathVariable(\"id\") long customerId, @RequestParam String[] status) { return null; }", //
+				"  @RequestMapping public Object list() { return null; }", //
+				"  public Object unmapped() { return null; }", //
+				"  @RequestMapping(\"/nested\") public static class Nested {", //
+				"    @RequestMapping(\"/{id}\") public Object show(java.util.List<String> ids) { return null; }", //
+				"  }", //
+				"}");
+
+		assertThat(source, containsString("public class CustomerController_Mappings"));
+		assertThat(source, containsString("super(\"/customers/\");"));
+		assertThat(source, containsString("method(\"show(java.lang.Long)\", \"/customers/{id}\", \"id\");"));
+		assertThat(source, containsString(
+				"method(\"orders(long,java.lang.String[])\", \"/customers/{id}/orders\", \"customerId\", \"status\");"));
+		assertThat(source, containsString("method(\"list()\", \"/customers/\");"));
+		assertThat(source, not(containsString("unmapped")));
+
+		String nested = read("com/acme/CustomerController_Nested_Mappings.java");
+
+		assertThat(nested, containsString("method(\"show(java.util.List)\", \"/nested/{id}\", \"ids\");"));
+	}
+
+	@Test
+	public void inheritsTypeMappingFromInterface() throws Exception {
+
+		write("com/acme/Api.java", //
+				"package com.acme;", //
+				"@org.springframework.web.bind.annotation.RequestMapping(\"/api\")", //
+				"public interface Api {}");
+
+		String source = compile("com/acme/ApiController.java", //
+				"package com.acme;", //
+				"import org.springframework.web.bind.annotation.*;", //
+				"public class ApiController implements Api {", //
+				"  @RequestMapping(\"/{id}\") public Object show(@PathVariable Long id) { return null; }", //
+				"}");
+
+		assertThat(source, containsString("super(\"/api\");"));
+		assertThat(source, containsString("method(\"show(java.lang.Long)\", \"/api/{id}\", \"id\");"));
+	}
+
+	@Test
+	public void usesFirstMappingInCaseMultipleOnesAreDefined() throws Exception {
+
+		String source = compile("com/acme/AliasController.java", //
+				"package com.acme;", //
+				"import org.springframework.web.bind.annotation.*;", //
+				"@RequestMapping({ \"/type\", \"/typeAlias\" })", //
+				"public class AliasController {", //
+				"  @RequestMapping({ \"/method\", \"/methodAlias\" }) public Object method() { return null; }", //
+				"  @GetMapping(path = { \"/composed\", \"/composedAlias\" }) public Object composed() { return null; }", //
+				"}");
+
+		assertThat(source, containsString("super(\"/type\");"));
+		assertThat(source, containsString("method(\"method()\", \"/type/method\");"));
+		assertThat(source, containsString("method(\"composed()\", \"/type/composed\");"));
+	}
+
+	@Test
+	public void generatesSourcesCompilingOnCurrentJdk() throws Exception {
+
+		File file = write("com/acme/OrderController.java", //
+				"package com.acme;", //
+				"import org.springframework.web.bind.annotation.*;", //
+				"@RequestMapping(\"/orders\")", //
+				"public class OrderController {", //
+				"  @RequestMapping(\"/{id}\") public Object show(@PathVariable Long id) { return null; }", //
+				"}");
+
+		assertThat(compile(file, false), is(true));
+		assertThat(new File(folder.getRoot(), "target/com/acme/OrderController_Mappings.class").exists(), is(true));
+	}
+
+	private String compile(String path, String... lines) throws IOException {
+
+		assertThat(compile(write(path, lines), true), is(true));
+
+		return read(path.replace(".java", "_Mappings.java"));
+	}
+
+	/**
+	 * Runs the {@link ControllerMappingsProcessor} on the given source file and compiles the sources unless
+	 * {@code processingOnly} is set.
+	 */
+	private boolean compile(File file, boolean processingOnly) throws IOException {
+
+		File sources = new File(folder.getRoot(), "src");
+		File target = new File(folder.getRoot(), "target");
+		target.mkdirs();
+
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+		try {
+
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(file);
+			List<String> options = new ArrayList<String>(Arrays.asList("-classpath", System.getProperty("java.class.path"),
+					"-sourcepath", sources.getAbsolutePath(), "-s", target.getAbsolutePath(), "-d", target.getAbsolutePath()));
+
+			if (processingOnly) {
+				options.add("-proc:only");
+			}
+
+			CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+			task.setProcessors(Collections.singleton(new ControllerMappingsProcessor()));
+
+			return task.call();
+
+		} finally {
+			fileManager.close();
+		}
+	}
+
+	private File write(String path, String... lines) throws IOException {
+
+		File file = new File(new File(folder.getRoot(), "src"), path);
+		file.getParentFile().mkdirs();
+
+		StringBuilder builder = new StringBuilder();
+
+		for (String line : lines) {
+			builder.append(line).append("\n");
+		}
+
+		FileCopyUtils.copy(builder.toString().getBytes("UTF-8"), file);
+
+		return file;
+	}
+
+	private String read(String path) throws IOException {
+		return new String(FileCopyUtils.copyToByteArray(new File(new File(folder.getRoot(), "target"), path)), "UTF-8");
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link ControllerMappings}.
+ *
+ * @author Oliver Gierke
+ */
+public class ControllerMappingsUnitTest extends TestUtils {
+
+	@Test
+	public void looksUpGeneratedMappings() throws Exception {
+
+		ControllerMappings mappings = ControllerMappings.of(SampleController.class);
+
+		assertThat(mappings, is(instanceOf(ControllerMappingsUnitTest_SampleController_Mappings.class)));
+		assertThat(mappings.getMapping(), is("/generated"));
+		assertThat(mappings.getMethodMapping(SampleController.class.getMethod("method", Long.class)).getMapping(),
+				is("/generated/{id}"));
+		assertThat(mappings.getMethodMapping(SampleController.class.getMethod("unmapped")), is(nullValue()));
+	}
+
+	@Test
+	public void returnsNullForTypeWithoutGeneratedMappings() {
+		assertThat(ControllerMappings.of(String.class), is(nullValue()));
+	}
+
+	@Test
+	public void usesGeneratedMappingsToBuildLinks() {
+
+		assertThat(linkTo(SampleController.class).withSelfRel().getHref(), endsWith("/generated"));
+		assertThat(linkTo(methodOn(SampleController.class).method(1L)).withSelfRel().getHref(),
+				endsWith("/generated/1"));
+	}
+
+	@Test
+	public void usesGeneratedParameterNames() throws Exception {
+
+		String[] names = ControllerMappings.PARAMETER_NAME_DISCOVERER
+				.getParameterNames(SampleController.class.getMethod("method", Long.class));
+
+		assertThat(names, is(arrayContaining("id")));
+	}
+
+	@RequestMapping("/annotated")
+	static class SampleController {
+
+		@RequestMapping("/{id}")
+		public HttpEntity<Void> method(@PathVariable Long id) {
+			return null;
+		}
+
+		public HttpEntity<Void> unmapped() {
+			return null;
+		}
+	}
+}
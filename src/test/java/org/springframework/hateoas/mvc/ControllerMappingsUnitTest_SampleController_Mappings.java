@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+/**
+ * {@link ControllerMappings} as {@link ControllerMappingsProcessor} would generate them for
+ * {@link ControllerMappingsUnitTest.SampleController}. Uses deliberately different mappings than the ones declared in
+ * the controller to be able to verify they're picked up.
+ *
+ * @author Oliver Gierke
+ */
+public class ControllerMappingsUnitTest_SampleController_Mappings extends ControllerMappings {
+
+	public ControllerMappingsUnitTest_SampleController_Mappings() {
+
+		super("/generated");
+
+		method("method(java.lang.Long)", "/generated/{id}", "id");
+	}
+}
@@ -15,12 +15,16 @@
  */
 package org.springframework.hateoas.mvc;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
 import org.junit.Test;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -36,6 +40,53 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 
 	}
 
+	@Test
+	public void reusesSharedProxyInstances() {
+
+		SampleController first = DummyInvocationUtils.sharedMethodOn(SampleController.class);
+		SampleController second = DummyInvocationUtils.sharedMethodOn(SampleController.class);
+
+		assertThat(first, is(sameInstance(second)));
+		assertThat(first.someMethod(1L), is(sameInstance(second.someMethod(2L))));
+	}
+
+	@Test
+	public void buildsLinksFromSharedProxyInvocations() {
+
+		assertThat(ControllerLinkBuilder.linkTo(DummyInvocationUtils.sharedMethodOn(SampleController.class).someMethod(1L))
+				.withSelfRel().getHref(), endsWith("/sample/1/foo"));
+		assertThat(ControllerLinkBuilder.linkTo(DummyInvocationUtils.sharedMethodOn(SampleController.class).someMethod(2L))
+				.withSelfRel().getHref(), endsWith("/sample/2/foo"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void releasesSharedInvocationOnceLinkIsBuilt() {
+
+		ControllerLinkBuilder.linkTo(DummyInvocationUtils.sharedMethodOn(SampleController.class).someMethod(1L));
+
+		ThreadLocal<Object> recorders = (ThreadLocal<Object>) ReflectionTestUtils.getField(DummyInvocationUtils.class,
+				"RECORDERS");
+
+		assertThat(recorders.get(), is(nullValue()));
+	}
+
+	@Test
+	public void buildsLinksFromInterfaceProxyInvocations() {
+
+		assertThat(ControllerLinkBuilder.linkTo(DummyInvocationUtils.methodOn(SampleInterface.class).someMethod(1L))
+				.withSelfRel().getHref(), endsWith("/interface/1/foo"));
+		assertThat(ControllerLinkBuilder.linkTo(DummyInvocationUtils.sharedMethodOn(SampleInterface.class).someMethod(2L))
+				.withSelfRel().getHref(), endsWith("/interface/2/foo"));
+	}
+
+	@RequestMapping("/interface")
+	interface SampleInterface {
+
+		@RequestMapping("/{id}/foo")
+		HttpEntity<Void> someMethod(@PathVariable("id") Long id);
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 